@@ -0,0 +1,112 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianArithmetic;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds Elbonian numerals with ElbonianArithmetic against converting both to Arabic and back, and totals a
+ * list of random numerals sequentially and in parallel. Run with -prof gc to check that the totals do not
+ * allocate per numeral.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ArithmeticBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private String[] left;
+    private String[] right;
+    private int[] packedLeft;
+    private int[] packedRight;
+    private List<String> numerals;
+
+    @Setup
+    public void setUp() throws ValueOutOfBoundsException {
+        SplittableRandom random = new SplittableRandom(20);
+        left = new String[PAIRS];
+        right = new String[PAIRS];
+        packedLeft = new int[PAIRS];
+        packedRight = new int[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            int a = random.nextInt(1, 5000);
+            int b = random.nextInt(1, 5000);
+            left[i] = ElbonianArabicConverter.toElbonian(a);
+            right[i] = ElbonianArabicConverter.toElbonian(b);
+            packedLeft[i] = ElbonianArithmetic.pack(a);
+            packedRight[i] = ElbonianArithmetic.pack(b);
+        }
+        String[] all = new String[size];
+        for (int i = 0; i < size; i++) {
+            all[i] = ElbonianArabicConverter.toElbonian(random.nextInt(1, 10000));
+        }
+        numerals = Arrays.asList(all);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public int addNumerals() throws MalformedNumberException, ValueOutOfBoundsException {
+        int length = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            length += ElbonianArithmetic.add(left[i], right[i]).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public int addThroughArabic() throws MalformedNumberException, ValueOutOfBoundsException {
+        int length = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            int sum = ElbonianArabicConverter.toArabic(left[i]) + ElbonianArabicConverter.toArabic(right[i]);
+            length += ElbonianArabicConverter.toElbonian(sum).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public int addPacked() throws ValueOutOfBoundsException {
+        int sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum ^= ElbonianArithmetic.addPacked(packedLeft[i], packedRight[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long total() throws MalformedNumberException {
+        return ElbonianArithmetic.total(numerals);
+    }
+
+    @Benchmark
+    public long parallelTotal() throws MalformedNumberException {
+        return ElbonianArithmetic.parallelTotal(numerals);
+    }
+
+}
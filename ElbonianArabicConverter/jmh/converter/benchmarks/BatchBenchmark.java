@@ -0,0 +1,89 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianBatchConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.CharBuffer;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting a batch of values through ElbonianBatchConverter with creating one
+ * ElbonianArabicConverter per value. Scores are per converted value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BatchBenchmark {
+
+    private int[] values;
+    private String[] arabic;
+    private CharBuffer text;
+    private int[] offsets;
+    private int[] out;
+    private BitSet errors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = Inputs.values("uniform");
+        arabic = new String[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            arabic[i] = Integer.toString(values[i]);
+        }
+        text = CharBuffer.allocate(ElbonianBatchConverter.maxLength(Inputs.SIZE));
+        offsets = new int[Inputs.SIZE + 1];
+        out = new int[Inputs.SIZE];
+        errors = new BitSet(Inputs.SIZE);
+        ElbonianBatchConverter.toElbonian(values, 0, Inputs.SIZE, text, offsets, errors);
+        text.flip();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public void perObjectToElbonian(Blackhole blackhole) throws MalformedNumberException, ValueOutOfBoundsException {
+        for (String number : arabic) {
+            blackhole.consume(new ElbonianArabicConverter(number).toElbonian());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public int batchToElbonian() {
+        text.clear();
+        return ElbonianBatchConverter.toElbonian(values, 0, Inputs.SIZE, text, offsets, errors);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public void perObjectToArabic(Blackhole blackhole) throws MalformedNumberException, ValueOutOfBoundsException {
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            String numeral = text.subSequence(offsets[i], offsets[i + 1]).toString();
+            blackhole.consume(new ElbonianArabicConverter(numeral).toArabic());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public int batchToArabic() {
+        return ElbonianBatchConverter.toArabic(text, offsets, Inputs.SIZE, out, errors);
+    }
+
+}
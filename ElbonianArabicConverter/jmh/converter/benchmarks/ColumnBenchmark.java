@@ -0,0 +1,82 @@
+package converter.benchmarks;
+
+import converter.ElbonianBatchConverter;
+import converter.column.ColumnEncoding;
+import converter.column.ColumnReader;
+import converter.column.ColumnWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a block of a column file with parsing the same values stored as Elbonian text.
+ * Scores are per value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ColumnBenchmark {
+
+    private Path file;
+    private ColumnReader reader;
+    private CharBuffer text;
+    private int[] offsets;
+    private int[] out;
+    private BitSet errors;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        int[] values = Inputs.values("uniform");
+        file = Files.createTempFile("elbonian", ".col");
+        try (ColumnWriter writer = new ColumnWriter(file, Inputs.SIZE, EnumSet.allOf(ColumnEncoding.class))) {
+            writer.write(values, 0, Inputs.SIZE);
+        }
+        reader = ColumnReader.open(file);
+        text = CharBuffer.allocate(ElbonianBatchConverter.maxLength(Inputs.SIZE));
+        offsets = new int[Inputs.SIZE + 1];
+        out = new int[Inputs.SIZE];
+        errors = new BitSet(Inputs.SIZE);
+        ElbonianBatchConverter.toElbonian(values, 0, Inputs.SIZE, text, offsets, errors);
+        text.flip();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public int column() {
+        return reader.read(0, out, 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public int text() {
+        return ElbonianBatchConverter.toArabic(text, offsets, Inputs.SIZE, out, errors);
+    }
+
+}
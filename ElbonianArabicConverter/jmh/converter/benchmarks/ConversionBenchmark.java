@@ -0,0 +1,116 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianNumber;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks every conversion path of ElbonianArabicConverter: parsing and validating in the constructor,
+ * the instance toArabic() and toElbonian() methods and the static table lookups.
+ *
+ * The inputs are either spread uniformly over 1 - 9999 or all the worst case length (8888, NNMMDDCCYYXXJJII).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ConversionBenchmark {
+
+    @Param({"uniform", "worstCase"})
+    public String inputs;
+
+    private String[] arabic;
+    private String[] elbonian;
+    private int[] values;
+    private ElbonianArabicConverter[] arabicConverters;
+    private ElbonianArabicConverter[] elbonianConverters;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws MalformedNumberException, ValueOutOfBoundsException {
+        values = Inputs.values(inputs);
+        arabic = new String[Inputs.SIZE];
+        elbonian = new String[Inputs.SIZE];
+        arabicConverters = new ElbonianArabicConverter[Inputs.SIZE];
+        elbonianConverters = new ElbonianArabicConverter[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            arabic[i] = Integer.toString(values[i]);
+            elbonian[i] = new ElbonianArabicConverter(arabic[i]).toElbonian();
+            arabicConverters[i] = new ElbonianArabicConverter(arabic[i]);
+            elbonianConverters[i] = new ElbonianArabicConverter(elbonian[i]);
+        }
+    }
+
+    private int next() {
+        next = (next + 1) & Inputs.MASK;
+        return next;
+    }
+
+    @Benchmark
+    public ElbonianArabicConverter parseArabic() throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(arabic[next()]);
+    }
+
+    @Benchmark
+    public ElbonianArabicConverter parseElbonian() throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(elbonian[next()]);
+    }
+
+    @Benchmark
+    public int toArabic() {
+        return elbonianConverters[next()].toArabic();
+    }
+
+    @Benchmark
+    public String toElbonian() {
+        return arabicConverters[next()].toElbonian();
+    }
+
+    @Benchmark
+    public int parseAndToArabic() throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(elbonian[next()]).toArabic();
+    }
+
+    @Benchmark
+    public String parseAndToElbonian() throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(arabic[next()]).toElbonian();
+    }
+
+    @Benchmark
+    public int tableToArabic() throws MalformedNumberException {
+        return ElbonianArabicConverter.toArabic(elbonian[next()]);
+    }
+
+    @Benchmark
+    public String tableToElbonian() throws ValueOutOfBoundsException {
+        return ElbonianArabicConverter.toElbonian(values[next()]);
+    }
+
+    @Benchmark
+    public String numberToElbonian() {
+        return ElbonianNumber.valueOf(values[next()]).toElbonian();
+    }
+
+    @Benchmark
+    public int numberParse() throws MalformedNumberException, ValueOutOfBoundsException {
+        return ElbonianNumber.parse(elbonian[next()]).toArabic();
+    }
+
+}
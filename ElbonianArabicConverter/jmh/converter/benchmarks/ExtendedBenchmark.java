@@ -0,0 +1,64 @@
+package converter.benchmarks;
+
+import converter.ExtendedElbonian;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts numbers of growing size to and from the extended notation. The time per digit should stay about
+ * flat as the digits grow tenfold; parsing the decimal form with new BigInteger(String) is included as the
+ * quadratic baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ExtendedBenchmark {
+
+    @Param({"18", "1000", "10000", "100000"})
+    public int digits;
+
+    private BigInteger value;
+    private String numeral;
+    private String decimal;
+
+    @Setup
+    public void setUp() throws ValueOutOfBoundsException {
+        value = new BigInteger(digits * 10 / 3, new Random(21)).setBit(digits * 10 / 3);
+        numeral = ExtendedElbonian.toElbonian(value);
+        decimal = value.toString();
+    }
+
+    @Benchmark
+    public String write() throws ValueOutOfBoundsException {
+        return ExtendedElbonian.toElbonian(value);
+    }
+
+    @Benchmark
+    public BigInteger parse() throws MalformedNumberException {
+        return ExtendedElbonian.parse(numeral);
+    }
+
+    @Benchmark
+    public BigInteger parseDecimal() {
+        return new BigInteger(decimal);
+    }
+
+}
@@ -0,0 +1,89 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianIndex;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers "how many records lie between 2000 and 2999" over a million Elbonian records, once by parsing every
+ * record and once with an ElbonianIndex, and measures building the index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IndexBenchmark {
+
+    private static final int RECORDS = 1 << 20;
+
+    private String[] records;
+    private int[] values;
+    private ElbonianIndex index;
+
+    @Setup
+    public void setUp() throws ValueOutOfBoundsException {
+        SplittableRandom random = new SplittableRandom(18);
+        records = new String[RECORDS];
+        values = new int[RECORDS];
+        ElbonianIndex.Builder builder = new ElbonianIndex.Builder();
+        for (int i = 0; i < RECORDS; i++) {
+            values[i] = random.nextInt(1, 10000);
+            records[i] = ElbonianArabicConverter.toElbonian(values[i]);
+            builder.add(values[i], i);
+        }
+        index = builder.build();
+    }
+
+    @Benchmark
+    public int countByParsing() throws MalformedNumberException {
+        int count = 0;
+        for (String record : records) {
+            int value = ElbonianArabicConverter.toArabic(record);
+            if (value >= 2000 && value <= 2999) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int countWithIndex() {
+        return index.count(2000, 2999);
+    }
+
+    @Benchmark
+    public long[] rangeWithIndex() {
+        return index.range(2000, 2999);
+    }
+
+    @Benchmark
+    public long[] top100() {
+        return index.top(100);
+    }
+
+    @Benchmark
+    public ElbonianIndex build() throws ValueOutOfBoundsException {
+        ElbonianIndex.Builder builder = new ElbonianIndex.Builder();
+        for (int i = 0; i < RECORDS; i++) {
+            builder.add(values[i], i);
+        }
+        return builder.build();
+    }
+
+}
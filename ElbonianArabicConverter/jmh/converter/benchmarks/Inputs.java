@@ -0,0 +1,40 @@
+package converter.benchmarks;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Input data shared by the benchmarks.
+ */
+final class Inputs {
+
+    //Number of inputs each benchmark cycles through; a power of two so the index can be masked
+    static final int SIZE = 1024;
+    static final int MASK = SIZE - 1;
+
+    //Inputs the constructor must reject, both malformed and out of bounds
+    static final String[] INVALID = {
+            "NNNM", "IIII", "MN", "NMDCXYJI", "99 9", "1M", "k", "NNNNDYJ", "10010", "0", "-9", "NNNDDDYYYJJJI"
+    };
+
+    private Inputs() {
+    }
+
+    /**
+     * Returns SIZE values, either uniformly random over 1 - 9999 ("uniform") or all 8888 ("worstCase"), whose
+     * Elbonian form NNMMDDCCYYXXJJII is the longest there is.
+     */
+    static int[] values(String kind) {
+        int[] values = new int[SIZE];
+        if ("worstCase".equals(kind)) {
+            Arrays.fill(values, 8888);
+        } else {
+            SplittableRandom random = new SplittableRandom(3733);
+            for (int i = 0; i < SIZE; i++) {
+                values[i] = random.nextInt(1, 10000);
+            }
+        }
+        return values;
+    }
+
+}
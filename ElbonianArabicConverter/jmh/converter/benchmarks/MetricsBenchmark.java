@@ -0,0 +1,96 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what converter.metrics costs. Each path is run in a JVM with instrumentation off and in one with
+ * it on; the "off" scores should match ConversionBenchmark. The Threads variants run four threads that record
+ * into the same latency histogram, mostly into the same few buckets, so a counter they contend on shows up
+ * as a gap between their "on" and "off" scores that the single threaded runs do not have.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    private String[] arabic;
+    private ElbonianArabicConverter[] converters;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws MalformedNumberException, ValueOutOfBoundsException {
+        int[] values = Inputs.values("uniform");
+        arabic = new String[Inputs.SIZE];
+        converters = new ElbonianArabicConverter[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            arabic[i] = Integer.toString(values[i]);
+            converters[i] = new ElbonianArabicConverter(arabic[i]);
+        }
+    }
+
+    private int next() {
+        next = (next + 1) & Inputs.MASK;
+        return next;
+    }
+
+    private String parseAndConvert() throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(arabic[next()]).toElbonian();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Delbonian.metrics=false")
+    public String parseMetricsOff() throws MalformedNumberException, ValueOutOfBoundsException {
+        return parseAndConvert();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Delbonian.metrics=true")
+    public String parseMetricsOn() throws MalformedNumberException, ValueOutOfBoundsException {
+        return parseAndConvert();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Delbonian.metrics=false")
+    public int toArabicMetricsOff() {
+        return converters[next()].toArabic();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Delbonian.metrics=true")
+    public int toArabicMetricsOn() {
+        return converters[next()].toArabic();
+    }
+
+    @Benchmark
+    @Threads(4)
+    @Fork(value = 2, jvmArgsAppend = "-Delbonian.metrics=false")
+    public int toArabicMetricsOffThreads() {
+        return converters[next()].toArabic();
+    }
+
+    @Benchmark
+    @Threads(4)
+    @Fork(value = 2, jvmArgsAppend = "-Delbonian.metrics=true")
+    public int toArabicMetricsOnThreads() {
+        return converters[next()].toArabic();
+    }
+
+}
@@ -0,0 +1,104 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianMicroBatcher;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ElbonianMicroBatcher across batch sizes and linger times, with several threads submitting at
+ * once. roundTrip submits one request and waits for it, so its sampled times are request latencies;
+ * pipelined keeps a window of requests in flight per thread, so its score is throughput per request.
+ * direct is the same conversion called on the submitting thread, without batching.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class MicroBatchBenchmark {
+
+    //Requests each thread keeps in flight in pipelined
+    private static final int WINDOW = 64;
+
+    @State(Scope.Benchmark)
+    public static class Batcher {
+
+        @Param({"1", "16", "64", "256"})
+        public int batchSize;
+
+        @Param({"0", "10", "100"})
+        public long lingerMicros;
+
+        ElbonianMicroBatcher batcher;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            batcher = new ElbonianMicroBatcher(batchSize, lingerMicros, TimeUnit.MICROSECONDS);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            batcher.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Values {
+
+        final int[] values = Inputs.values("uniform");
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final CompletableFuture<String>[] window = new CompletableFuture[WINDOW];
+        int next;
+
+        int next() {
+            return values[next++ & Inputs.MASK];
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String roundTrip(Batcher batcher, Values values) {
+        return batcher.batcher.toElbonian(values.next()).join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @OperationsPerInvocation(WINDOW)
+    public int pipelined(Batcher batcher, Values values) {
+        for (int i = 0; i < WINDOW; i++) {
+            values.window[i] = batcher.batcher.toElbonian(values.next());
+        }
+        int length = 0;
+        for (int i = 0; i < WINDOW; i++) {
+            length += values.window[i].join().length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String direct(Values values) throws ValueOutOfBoundsException {
+        return ElbonianArabicConverter.toElbonian(values.next());
+    }
+
+}
@@ -0,0 +1,81 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import converter.numeral.NumeralConverter;
+import converter.numeral.StandardSystems;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generic NumeralConverter with the hand built Elbonian tables, and the Roman system with the
+ * Elbonian one, to check that a system defined as a table converts as fast as the built in one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class NumeralSystemBenchmark {
+
+    private final NumeralConverter elbonianEngine = NumeralConverter.of(StandardSystems.ELBONIAN);
+    private final NumeralConverter romanEngine = NumeralConverter.of(StandardSystems.ROMAN);
+    private int[] values;
+    private String[] elbonian;
+    private String[] roman;
+    private int next;
+
+    @Setup
+    public void setUp() throws ValueOutOfBoundsException {
+        values = Inputs.values("uniform");
+        elbonian = new String[Inputs.SIZE];
+        roman = new String[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            elbonian[i] = ElbonianArabicConverter.toElbonian(values[i]);
+            roman[i] = romanEngine.toNumeral(1 + values[i] % romanEngine.maxValue());
+        }
+    }
+
+    private int next() {
+        next = (next + 1) & Inputs.MASK;
+        return next;
+    }
+
+    @Benchmark
+    public int elbonianTableToArabic() throws MalformedNumberException {
+        return ElbonianArabicConverter.toArabic(elbonian[next()]);
+    }
+
+    @Benchmark
+    public int elbonianEngineToArabic() throws MalformedNumberException {
+        return elbonianEngine.toArabic(elbonian[next()]);
+    }
+
+    @Benchmark
+    public int romanEngineToArabic() throws MalformedNumberException {
+        return romanEngine.toArabic(roman[next()]);
+    }
+
+    @Benchmark
+    public String elbonianTableToNumeral() throws ValueOutOfBoundsException {
+        return ElbonianArabicConverter.toElbonian(values[next()]);
+    }
+
+    @Benchmark
+    public String elbonianEngineToNumeral() throws ValueOutOfBoundsException {
+        return elbonianEngine.toNumeral(values[next()]);
+    }
+
+}
@@ -0,0 +1,109 @@
+package converter.benchmarks;
+
+import converter.ElbonianBatchConverter;
+import converter.ElbonianParallelConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how ElbonianParallelConverter scales with the number of threads, on an array of four million
+ * values and on a file with four million lines. Run with -p parallelism=... to match the machine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelBenchmark {
+
+    private static final int COUNT = 4 * 1024 * 1024;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int parallelism;
+
+    @Param({"8192"})
+    public int threshold;
+
+    private ForkJoinPool pool;
+    private ElbonianParallelConverter converter;
+    private int[] values;
+    private char[] text;
+    private int[] offsets;
+    private int[] out;
+    private BitSet errors;
+    private Path directory;
+    private Path input;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pool = new ForkJoinPool(parallelism);
+        converter = new ElbonianParallelConverter(pool, threshold, ElbonianParallelConverter.DEFAULT_CHUNK_SIZE);
+        SplittableRandom random = new SplittableRandom(3733);
+        values = new int[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = random.nextInt(1, 10000);
+        }
+        text = new char[ElbonianBatchConverter.maxLength(COUNT)];
+        offsets = new int[COUNT + 1];
+        out = new int[COUNT];
+        errors = new BitSet(COUNT);
+        converter.toElbonian(values, text, offsets, errors);
+
+        directory = Files.createTempDirectory("elbonian-bench");
+        input = directory.resolve("input.txt");
+        try (Writer writer = Files.newBufferedWriter(input, StandardCharsets.US_ASCII)) {
+            for (int value : values) {
+                writer.write(Integer.toString(value));
+                writer.write('\n');
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(directory.resolve("output.txt"));
+        Files.deleteIfExists(directory.resolve("errors.txt"));
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public int arrayToElbonian() {
+        return converter.toElbonian(values, text, offsets, errors);
+    }
+
+    @Benchmark
+    public int arrayToArabic() {
+        return converter.toArabic(CharBuffer.wrap(text), offsets, COUNT, out, errors);
+    }
+
+    @Benchmark
+    public long file() throws IOException {
+        return converter.convert(input, directory.resolve("output.txt"), directory.resolve("errors.txt"));
+    }
+
+}
@@ -0,0 +1,108 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianNumber;
+import converter.ParseResult;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the throwing and the non throwing parse on traffic where a share of the inputs
+ * is garbage. Each operation parses all SIZE inputs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RejectBenchmark {
+
+    //Percentage of the inputs that are rejected
+    @Param({"0", "30", "100"})
+    public int garbage;
+
+    private String[] inputs;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(1187);
+        inputs = new String[Inputs.SIZE];
+        for (int i = 0; i < inputs.length; i++) {
+            if (random.nextInt(100) < garbage) {
+                inputs[i] = Inputs.INVALID[random.nextInt(Inputs.INVALID.length)];
+            } else {
+                inputs[i] = ElbonianNumber.valueOf(random.nextInt(1, 10000)).toElbonian();
+            }
+        }
+    }
+
+    //The constructor, which throws an exception with a stack trace for every rejected input
+    @Benchmark
+    public long throwing() {
+        long sum = 0;
+        for (String input : inputs) {
+            try {
+                sum += new ElbonianArabicConverter(input).toArabic();
+            } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                sum -= e.getMessage().length();
+            }
+        }
+        return sum;
+    }
+
+    //Throwing exceptions without stack traces, which still pays for the message and the exception
+    @Benchmark
+    public long throwingWithoutStackTrace() {
+        long sum = 0;
+        for (String input : inputs) {
+            try {
+                long result = ElbonianNumber.tryParse(input);
+                if (!ParseResult.isSuccess(result)) {
+                    throw new MalformedNumberException(ParseResult.message(result, input), false);
+                }
+                sum += ParseResult.value(result);
+            } catch (MalformedNumberException e) {
+                sum -= e.getMessage().length();
+            }
+        }
+        return sum;
+    }
+
+    //The non throwing parse, building the message for rejected inputs as a log line would
+    @Benchmark
+    public long tryParseWithMessage() {
+        long sum = 0;
+        for (String input : inputs) {
+            long result = ElbonianNumber.tryParse(input);
+            sum += ParseResult.isSuccess(result) ? result : -ParseResult.message(result, input).length();
+        }
+        return sum;
+    }
+
+    //The non throwing parse, counting rejected inputs by error code only
+    @Benchmark
+    public long tryParse() {
+        long sum = 0;
+        for (String input : inputs) {
+            long result = ElbonianNumber.tryParse(input);
+            sum += ParseResult.isSuccess(result) ? result : -ParseResult.error(result);
+        }
+        return sum;
+    }
+
+}
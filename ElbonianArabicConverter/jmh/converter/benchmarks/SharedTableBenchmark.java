@@ -0,0 +1,102 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.SharedElbonianTable;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups in a mapped SharedElbonianTable with the on-heap tables, and measures mapping the file,
+ * which is all a worker pays at startup once another process has written it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SharedTableBenchmark {
+
+    private static final int NUMBERS = 1024;
+
+    private Path file;
+    private SharedElbonianTable table;
+    private String[] numerals;
+    private int[] values;
+    private ByteBuffer out;
+
+    @Setup
+    public void setUp() throws IOException, ValueOutOfBoundsException {
+        file = Files.createTempFile("elbonian", ".tables");
+        SharedElbonianTable.write(file);
+        table = SharedElbonianTable.open(file);
+        SplittableRandom random = new SplittableRandom(22);
+        numerals = new String[NUMBERS];
+        values = new int[NUMBERS];
+        for (int i = 0; i < NUMBERS; i++) {
+            values[i] = random.nextInt(1, 10000);
+            numerals[i] = ElbonianArabicConverter.toElbonian(values[i]);
+        }
+        out = ByteBuffer.allocateDirect(16 * NUMBERS);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBERS)
+    public int toArabicShared() {
+        int sum = 0;
+        for (String numeral : numerals) {
+            sum += table.toArabic(numeral);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBERS)
+    public int toArabicHeap() throws MalformedNumberException {
+        int sum = 0;
+        for (String numeral : numerals) {
+            sum += ElbonianArabicConverter.toArabic(numeral);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBERS)
+    public ByteBuffer encodeShared() {
+        out.clear();
+        for (int value : values) {
+            table.appendTo(value, out);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public SharedElbonianTable open() throws IOException {
+        return SharedElbonianTable.open(file);
+    }
+
+}
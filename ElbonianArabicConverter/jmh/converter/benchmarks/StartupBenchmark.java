@@ -0,0 +1,49 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to the first conversion in a fresh JVM: loading and initializing the converter classes
+ * and building the tables, all interpreted. Every fork is a new JVM and runs the benchmark once.
+ *
+ * firstConversion uses the tables generated at build time, firstConversionComputedTables computes them as a
+ * build without the generated class would, and firstConversionThroughConstructor goes through the
+ * constructor's parser as well. Compare with the warmed up ConversionBenchmark to see what startup costs.
+ * To measure an AppCDS archive made by the cdsArchive task, run with
+ *   -jvmArgsAppend -XX:SharedArchiveFile=build/cds/converter.jsa
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    @Benchmark
+    public String firstConversion() throws ValueOutOfBoundsException, MalformedNumberException {
+        return ElbonianArabicConverter.toElbonian(ElbonianArabicConverter.toArabic("NDDYY"));
+    }
+
+    @Benchmark
+    @Fork(value = 20, jvmArgsPrepend = "-Delbonian.computeTables=true")
+    public String firstConversionComputedTables() throws ValueOutOfBoundsException, MalformedNumberException {
+        return ElbonianArabicConverter.toElbonian(ElbonianArabicConverter.toArabic("NDDYY"));
+    }
+
+    @Benchmark
+    public String firstConversionThroughConstructor() throws ValueOutOfBoundsException, MalformedNumberException {
+        return new ElbonianArabicConverter("NDDYY").toElbonian();
+    }
+
+}
@@ -0,0 +1,43 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the constructor on inputs it has to reject, which is the cost of every piece of garbage that
+ * reaches the converter.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+
+    private int next;
+
+    @Benchmark
+    public Exception rejectInvalid() {
+        next = (next + 1) % Inputs.INVALID.length;
+        try {
+            new ElbonianArabicConverter(Inputs.INVALID[next]);
+            throw new AssertionError(Inputs.INVALID[next] + " was accepted");
+        } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package converter.benchmarks;
+
+import converter.ElbonianBatchConverter;
+import converter.ElbonianVectorDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.CharBuffer;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding fixed width records with the Vector API kernel, with the scalar fallback, and decoding the
+ * same numerals packed end to end with ElbonianBatchConverter. Scores are per decoded numeral.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class VectorBenchmark {
+
+    @Param({"uniform", "worstCase"})
+    public String inputs;
+
+    private byte[] records;
+    private CharBuffer text;
+    private int[] offsets;
+    private int[] out;
+    private BitSet errors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (!ElbonianVectorDecoder.isVectorized()) {
+            throw new IllegalStateException("The Vector API is not available in the benchmark JVM");
+        }
+        int[] values = Inputs.values(inputs);
+        records = ElbonianVectorDecoder.pack(values);
+        text = CharBuffer.allocate(ElbonianBatchConverter.maxLength(Inputs.SIZE));
+        offsets = new int[Inputs.SIZE + 1];
+        out = new int[Inputs.SIZE];
+        errors = new BitSet(Inputs.SIZE);
+        ElbonianBatchConverter.toElbonian(values, 0, Inputs.SIZE, text, offsets, errors);
+        text.flip();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public int vector() {
+        return ElbonianVectorDecoder.decode(records, Inputs.SIZE, out, errors);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public int scalar() {
+        return ElbonianVectorDecoder.decodeScalar(records, Inputs.SIZE, out, errors);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Inputs.SIZE)
+    public int batch() {
+        return ElbonianBatchConverter.toArabic(text, offsets, Inputs.SIZE, out, errors);
+    }
+
+}
@@ -0,0 +1,63 @@
+package converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A CharSequence view over a range of ASCII bytes in a ByteBuffer. It lets the parser read bytes straight
+ * out of a buffer without decoding them into a String first. The view can be pointed at a new range with
+ * reset(), so one instance can be reused for every line of a file.
+ *
+ * @version 10/18/26
+ */
+final class AsciiSequence implements CharSequence {
+
+    private ByteBuffer buffer;
+    private int from;
+    private int length;
+
+    /**
+     * Points the view at a range of a buffer. The buffer's position and limit are not used or changed.
+     *
+     * @param buffer The buffer holding the bytes
+     * @param from The index of the first byte
+     * @param to The index after the last byte
+     * @return This view
+     */
+    AsciiSequence reset(ByteBuffer buffer, int from, int to) {
+        this.buffer = buffer;
+        this.from = from;
+        this.length = to - from;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        return (char) (buffer.get(from + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new AsciiSequence().reset(buffer, from + start, from + end);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(charAt(i));
+        }
+        return text.toString();
+    }
+
+}
@@ -2,8 +2,8 @@ package converter;
 
 import converter.exceptions.MalformedNumberException;
 import converter.exceptions.ValueOutOfBoundsException;
-
-import static jdk.nashorn.internal.objects.Global.print;
+import converter.metrics.ConverterMetrics;
+import converter.metrics.ConverterMetrics.Operation;
 
 /**
  * This class implements a converter that takes a string that represents a number in either the
@@ -13,8 +13,8 @@ import static jdk.nashorn.internal.objects.Global.print;
  */
 public class ElbonianArabicConverter {
 
-    //A string that holds the number (Elbonian or Arabic) you would like to convert
-    private String number = null;
+    //The number (Elbonian or Arabic) you would like to convert
+    private final ElbonianNumber number;
 
     /**
      * Constructor for the ElbonianArabic class that takes a string. The string should contain a valid
@@ -30,61 +30,23 @@ public class ElbonianArabicConverter {
      * in the Elbonian number system.
      */
     public ElbonianArabicConverter(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        this.number = parse(number);
+    }
 
-        boolean conditionX = false;
-        boolean nmComboValid = false;
-        boolean dcComboValid = false;
-        boolean yxComboValid = false;
-        boolean jiComboValid = false;
-
-        String holder = null;
-        number = number.replaceAll(" ",""); //remove all spaces; leading, trailing, and in-between
-
-        if((number != null) && (!number.equals("")) && (number.matches("[0-9]+")) && (number.charAt(0) != '0') && (Integer.parseInt(number) <= 9999) && (Integer.parseInt(number) != 0)) {
-            this.number = number;
-        } else if((number != null) && (!number.equals("")) && (number.matches("N{0,3}M{0,2}D{0,3}C{0,2}Y{0,3}X{0,2}J{0,3}I{0,2}"))) {
-            conditionX = true;
-            holder = number;
+    //Parses the constructor's argument, recording metrics when instrumentation is turned on
+    private static ElbonianNumber parse(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        if (!ConverterMetrics.ENABLED) {
+            return ElbonianNumber.parse(number);
         }
-        /*else if(Integer.parseInt(number) <= 0 || Integer.parseInt(number) > 9999) {
-            throw new ValueOutOfBoundsException("Input Arabic exceeds Elbonian bounds.");
-        } else if(Double.parseDouble(number) <= 0 || Double.parseDouble(number) >= 0) {
-            throw new ValueOutOfBoundsException("Input Arabic cannot be decimal.");
+        long start = System.nanoTime();
+        try {
+            ElbonianNumber parsed = ElbonianNumber.parse(number);
+            ConverterMetrics.record(Operation.PARSE, start);
+            return parsed;
+        } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+            ConverterMetrics.failed(Operation.PARSE, e);
+            throw e;
         }
-        */
-
-        if(conditionX && (holder != null) && (!holder.equals(""))) {
-
-            if (holder.matches("(N{3})D*C*Y*X*J*I*") || holder.matches("(N{0,2})M*D*C*Y*X*J*I*")) {
-                nmComboValid = true;
-            } else {
-                return;
-            }
-
-            if (holder.matches("N*M*(D{3})Y*X*J*I*") || holder.matches("N*M*(D{0,2})C*Y*X*J*I*")) {
-                dcComboValid = true;
-            } else {
-                return;
-            }
-
-            if (holder.matches("N*M*D*C*(Y{3})J*I*") || holder.matches("N*M*D*C*(Y{0,2})X*J*I*")) {
-                yxComboValid = true;
-            } else {
-                return;
-            }
-
-            if (holder.matches("N*M*D*C*Y*X*(J{3})") || holder.matches("N*M*D*C*Y*X*(J{0,2})I*")) {
-                jiComboValid = true;
-            } else {
-                return;
-            }
-        } else { return; }
-
-        if(nmComboValid && dcComboValid && yxComboValid && jiComboValid) {
-            number = holder;
-            this.number = number;
-        } else { return; }
-
     }
 
     /**
@@ -94,35 +56,13 @@ public class ElbonianArabicConverter {
      * @return An arabic value
      */
     public int toArabic() {
-        // TODO Fill in the method's body
-        int count = 0;
-        for (int i = 0; i < number.length(); i++) {
-            if(number.charAt(i) == 'N') {
-                count += 3000;
-            }
-            if(number.charAt(i) == 'M') {
-                count += 1000;
-            }
-            if(number.charAt(i) == 'D') {
-                count += 300;
-            }
-            if(number.charAt(i) == 'C') {
-                count += 100;
-            }
-            if(number.charAt(i) == 'Y') {
-                count += 30;
-            }
-            if(number.charAt(i) == 'X') {
-                count += 10;
-            }
-            if(number.charAt(i) == 'J') {
-                count += 3;
-            }
-            if(number.charAt(i) == 'I') {
-                count += 1;
-            }
+        if (!ConverterMetrics.ENABLED) {
+            return number.toArabic();
         }
-        return count;
+        long start = System.nanoTime();
+        int arabic = number.toArabic();
+        ConverterMetrics.record(Operation.TO_ARABIC, start);
+        return arabic;
     }
 
     /**
@@ -131,57 +71,44 @@ public class ElbonianArabicConverter {
      * @return An Elbonian value
      */
     public String toElbonian() {
-        // TODO Fill in the method's body
-        int arabic = Integer.parseInt(number);
-        StringBuilder Elbo = new StringBuilder();
-        int remainder = arabic % 3000;
-        int timesDivided = arabic / 3000;
-        for (int i = 0; i <timesDivided; i++) {
-            Elbo.append('N');
-        }
-
-        int remainder2 = remainder % 1000;
-        int timesDivided2 = remainder / 1000;
-        for (int i = 0; i <timesDivided2; i++) {
-            Elbo.append('M');
-        }
-
-        int remainder3 = remainder2 % 300;
-        int timesDivided3 = remainder2 / 300;
-        for (int i = 0; i <timesDivided3; i++) {
-            Elbo.append('D');
-        }
-
-        int remainder4 = remainder3 % 100;
-        int timesDivided4 = remainder3 / 100;
-        for (int i = 0; i <timesDivided4; i++) {
-            Elbo.append('C');
-        }
-
-        int remainder5 = remainder4 % 30;
-        int timesDivided5 = remainder4 / 30;
-        for (int i = 0; i <timesDivided5; i++) {
-            Elbo.append('Y');
-        }
-
-        int remainder6 = remainder5 % 10;
-        int timesDivided6 = remainder5 / 10;
-        for (int i = 0; i <timesDivided6; i++) {
-            Elbo.append('X');
+        if (!ConverterMetrics.ENABLED) {
+            return number.toElbonian();
         }
+        long start = System.nanoTime();
+        String elbonian = number.toElbonian();
+        ConverterMetrics.record(Operation.TO_ELBONIAN, start);
+        return elbonian;
+    }
 
-        int remainder7 = remainder6 % 3;
-        int timesDivided7 = remainder6 / 3;
-        for (int i = 0; i <timesDivided7; i++) {
-            Elbo.append('J');
+    /**
+     * Converts an Arabic value to its Elbonian numeral using the precomputed conversion table. The returned
+     * String is shared, so no new objects are created.
+     *
+     * @param arabic The value to convert
+     * @return The Elbonian numeral for the value
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system.
+     */
+    public static String toElbonian(int arabic) throws ValueOutOfBoundsException {
+        if (arabic < 1 || arabic > ElbonianTable.MAX_VALUE) {
+            throw new ValueOutOfBoundsException("Value " + arabic + " cannot be represented in the Elbonian number system.");
         }
+        return ElbonianTable.elbonian(arabic);
+    }
 
-        int timesDivided8 = remainder7 / 1;
-        for (int i = 0; i < timesDivided8; i++) {
-            Elbo.append('I');
+    /**
+     * Converts an Elbonian numeral to its Arabic value using the precomputed conversion table. The numeral
+     * must not contain any spaces.
+     *
+     * @param elbonian The Elbonian numeral to convert
+     * @return The Arabic value of the numeral
+     * @throws MalformedNumberException Thrown if the numeral does not follow the rules of the Elbonian number system.
+     */
+    public static int toArabic(CharSequence elbonian) throws MalformedNumberException {
+        int arabic = ElbonianTable.arabic(elbonian, 0, elbonian.length());
+        if (arabic < 0) {
+            throw new MalformedNumberException("\"" + elbonian + "\" is not a valid Elbonian numeral.");
         }
-
-        return Elbo.toString();
+        return arabic;
     }
 
 }
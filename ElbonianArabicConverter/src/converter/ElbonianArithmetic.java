@@ -0,0 +1,338 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Arithmetic on Elbonian numbers without going through new converter objects.
+ *
+ * The Elbonian symbols come in four groups, N/M, D/C, Y/X and J/I, and the symbols of a group always spell
+ * one decimal digit: three times the number of larger symbols plus the number of smaller ones. A number is
+ * therefore packed as four binary coded decimal digits, one per group, in the low 16 bits of an int, and
+ * added and subtracted digit by digit. Adding to a group's digit moves its smaller symbols into the larger
+ * one (III is J) and a digit that passes 9 carries into the next group, so the carry runs I, J, X, Y, C, D,
+ * M, N. Packed numbers compare like the values they hold.
+ *
+ * The operations on numerals take Elbonian numerals without spaces and return the shared numeral Strings, so
+ * none of them allocates. sum() and total() add up any number of numerals without allocating per numeral,
+ * sum() as a numeral and total() as a long for collections whose total passes 9999; parallelSum() and
+ * parallelTotal() split the work over a ForkJoinPool.
+ *
+ * @version 10/18/26
+ */
+public final class ElbonianArithmetic {
+
+    //Numerals per task below which the parallel aggregates stop splitting
+    public static final int SUM_THRESHOLD = 8192;
+
+    //Adding 6 to a BCD digit makes it carry exactly when the decimal digit would
+    private static final int SIXES = 0x6666;
+    private static final int NINES = 0x9999;
+    private static final int CARRY = 0x10000;
+
+    private ElbonianArithmetic() {
+    }
+
+    /**
+     * Packs a value as four BCD digits, one per symbol group.
+     *
+     * @param value A value between 1 and 9999
+     * @return The packed number
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system.
+     */
+    public static int pack(int value) throws ValueOutOfBoundsException {
+        check(value);
+        return value / 1000 << 12 | value / 100 % 10 << 8 | value / 10 % 10 << 4 | value % 10;
+    }
+
+    /**
+     * Packs an Elbonian numeral.
+     *
+     * @param numeral The numeral, without spaces
+     * @return The packed number
+     * @throws MalformedNumberException Thrown if the numeral does not follow the rules of the Elbonian number system.
+     */
+    public static int pack(CharSequence numeral) throws MalformedNumberException {
+        int value = ElbonianTable.arabic(numeral, 0, numeral.length());
+        if (value < 0) {
+            throw new MalformedNumberException("\"" + numeral + "\" is not a valid Elbonian numeral.");
+        }
+        return value / 1000 << 12 | value / 100 % 10 << 8 | value / 10 % 10 << 4 | value % 10;
+    }
+
+    /**
+     * Returns the value of a packed number.
+     *
+     * @param packed A number returned by pack() or one of the packed operations
+     * @return The value
+     */
+    public static int value(int packed) {
+        return ((packed >>> 12 & 0xF) * 10 + (packed >>> 8 & 0xF)) * 100 + (packed >>> 4 & 0xF) * 10 + (packed & 0xF);
+    }
+
+    /**
+     * Returns the Elbonian numeral of a packed number. The String is shared and is not created by this call.
+     *
+     * @param packed A number returned by pack() or one of the packed operations
+     * @return The numeral
+     */
+    public static String toElbonian(int packed) {
+        return ElbonianTable.elbonian(value(packed));
+    }
+
+    /**
+     * Adds two packed numbers.
+     *
+     * @param a A packed number
+     * @param b Another packed number
+     * @return The packed sum
+     * @throws ValueOutOfBoundsException Thrown if the sum is larger than 9999.
+     */
+    public static int addPacked(int a, int b) throws ValueOutOfBoundsException {
+        int sum = addDigits(a, b);
+        if (sum >= CARRY) {
+            throw new ValueOutOfBoundsException("Numbers larger than " + ElbonianTable.MAX_VALUE
+                    + " cannot be represented in the Elbonian number system.");
+        }
+        return sum;
+    }
+
+    /**
+     * Subtracts one packed number from another.
+     *
+     * @param a A packed number
+     * @param b The packed number to subtract
+     * @return The packed difference
+     * @throws ValueOutOfBoundsException Thrown if b is not smaller than a.
+     */
+    public static int subtractPacked(int a, int b) throws ValueOutOfBoundsException {
+        //a + (9999 - b) is 9999 + (a - b); 9999 - b needs no borrows since every digit of b is at most 9
+        int sum = addDigits(a, NINES - b);
+        if (sum == NINES) {
+            throw new ValueOutOfBoundsException("Zero cannot be represented in the Elbonian number system.");
+        }
+        if (sum < CARRY) {
+            throw new ValueOutOfBoundsException("Negative numbers cannot be represented in the Elbonian number system.");
+        }
+        //Dropping the carry leaves a - b - 1
+        return addDigits(sum & 0xFFFF, 1);
+    }
+
+    //Adds two sets of BCD digits; a carry out of the last digit sets bit 16
+    private static int addDigits(int a, int b) {
+        int biased = a + SIXES;
+        int sum = biased + b;
+        //Bits where the carry into a digit came in; digits without one get their 6 taken back
+        int carries = sum ^ biased ^ b;
+        int uncarried = ~carries & 0x11110;
+        return sum - ((uncarried >>> 2) | (uncarried >>> 3));
+    }
+
+    /**
+     * Adds two Elbonian numerals.
+     *
+     * @param a A numeral
+     * @param b Another numeral
+     * @return The numeral of the sum
+     * @throws MalformedNumberException Thrown if either numeral does not follow the rules of the Elbonian number system.
+     * @throws ValueOutOfBoundsException Thrown if the sum is larger than 9999.
+     */
+    public static String add(CharSequence a, CharSequence b) throws MalformedNumberException, ValueOutOfBoundsException {
+        return toElbonian(addPacked(pack(a), pack(b)));
+    }
+
+    /**
+     * Subtracts one Elbonian numeral from another.
+     *
+     * @param a A numeral
+     * @param b The numeral to subtract
+     * @return The numeral of the difference
+     * @throws MalformedNumberException Thrown if either numeral does not follow the rules of the Elbonian number system.
+     * @throws ValueOutOfBoundsException Thrown if b is not smaller than a.
+     */
+    public static String subtract(CharSequence a, CharSequence b) throws MalformedNumberException, ValueOutOfBoundsException {
+        return toElbonian(subtractPacked(pack(a), pack(b)));
+    }
+
+    /**
+     * Compares two Elbonian numerals by value.
+     *
+     * @param a A numeral
+     * @param b Another numeral
+     * @return A negative number, zero or a positive number as a is less than, equal to or greater than b
+     * @throws MalformedNumberException Thrown if either numeral does not follow the rules of the Elbonian number system.
+     */
+    public static int compare(CharSequence a, CharSequence b) throws MalformedNumberException {
+        return Integer.compare(pack(a), pack(b));
+    }
+
+    /**
+     * @param a A numeral
+     * @param b Another numeral
+     * @return The shared numeral of the smaller value
+     * @throws MalformedNumberException Thrown if either numeral does not follow the rules of the Elbonian number system.
+     */
+    public static String min(CharSequence a, CharSequence b) throws MalformedNumberException {
+        return toElbonian(Math.min(pack(a), pack(b)));
+    }
+
+    /**
+     * @param a A numeral
+     * @param b Another numeral
+     * @return The shared numeral of the larger value
+     * @throws MalformedNumberException Thrown if either numeral does not follow the rules of the Elbonian number system.
+     */
+    public static String max(CharSequence a, CharSequence b) throws MalformedNumberException {
+        return toElbonian(Math.max(pack(a), pack(b)));
+    }
+
+    /**
+     * Adds up Elbonian numerals.
+     *
+     * @param numerals The numerals, without spaces
+     * @return The numeral of the sum
+     * @throws MalformedNumberException Thrown if a numeral does not follow the rules of the Elbonian number system.
+     * @throws ValueOutOfBoundsException Thrown if the sum is larger than 9999, or there are no numerals.
+     */
+    public static String sum(CharSequence... numerals) throws MalformedNumberException, ValueOutOfBoundsException {
+        return sum(Arrays.asList(numerals));
+    }
+
+    /**
+     * Adds up a list of Elbonian numerals. The list is read by index, so it should allow fast random access.
+     *
+     * @param numerals The numerals, without spaces
+     * @return The numeral of the sum
+     * @throws MalformedNumberException Thrown if a numeral does not follow the rules of the Elbonian number system.
+     * @throws ValueOutOfBoundsException Thrown if the sum is larger than 9999, or there are no numerals.
+     */
+    public static String sum(List<? extends CharSequence> numerals) throws MalformedNumberException, ValueOutOfBoundsException {
+        return numeral(total(numerals));
+    }
+
+    /**
+     * Adds up a list of Elbonian numerals on the common ForkJoinPool.
+     *
+     * @param numerals The numerals, without spaces; the list must not change during the call
+     * @return The numeral of the sum
+     * @throws MalformedNumberException Thrown if a numeral does not follow the rules of the Elbonian number system.
+     * @throws ValueOutOfBoundsException Thrown if the sum is larger than 9999, or there are no numerals.
+     */
+    public static String parallelSum(List<? extends CharSequence> numerals) throws MalformedNumberException, ValueOutOfBoundsException {
+        return parallelSum(numerals, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Adds up a list of Elbonian numerals on a ForkJoinPool.
+     *
+     * @param numerals The numerals, without spaces; the list must not change during the call
+     * @param pool The pool to run on
+     * @return The numeral of the sum
+     * @throws MalformedNumberException Thrown if a numeral does not follow the rules of the Elbonian number system.
+     * @throws ValueOutOfBoundsException Thrown if the sum is larger than 9999, or there are no numerals.
+     */
+    public static String parallelSum(List<? extends CharSequence> numerals, ForkJoinPool pool)
+            throws MalformedNumberException, ValueOutOfBoundsException {
+        return numeral(checked(numerals, pool.invoke(new Total(numerals, 0, numerals.size()))));
+    }
+
+    /**
+     * Adds up the values of a list of Elbonian numerals. Unlike sum(), the total may be any size, so this is
+     * the aggregate to use over large collections.
+     *
+     * @param numerals The numerals, without spaces
+     * @return The total value
+     * @throws MalformedNumberException Thrown if a numeral does not follow the rules of the Elbonian number system.
+     */
+    public static long total(List<? extends CharSequence> numerals) throws MalformedNumberException {
+        return checked(numerals, accumulate(numerals, 0, numerals.size()));
+    }
+
+    /**
+     * Adds up the values of a list of Elbonian numerals on the common ForkJoinPool.
+     *
+     * @param numerals The numerals, without spaces; the list must not change during the call
+     * @return The total value
+     * @throws MalformedNumberException Thrown if a numeral does not follow the rules of the Elbonian number system.
+     */
+    public static long parallelTotal(List<? extends CharSequence> numerals) throws MalformedNumberException {
+        return checked(numerals, ForkJoinPool.commonPool().invoke(new Total(numerals, 0, numerals.size())));
+    }
+
+    //Adds up part of a list as plain longs; a malformed numeral gives -1 - its index instead
+    private static long accumulate(List<? extends CharSequence> numerals, int from, int to) {
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            CharSequence numeral = numerals.get(i);
+            int value = ElbonianTable.arabic(numeral, 0, numeral.length());
+            if (value < 0) {
+                return -1 - i;
+            }
+            total += value;
+        }
+        return total;
+    }
+
+    //Turns a negative total into the exception for the malformed numeral it points at
+    private static long checked(List<? extends CharSequence> numerals, long total) throws MalformedNumberException {
+        if (total < 0) {
+            int index = (int) (-1 - total);
+            throw new MalformedNumberException("\"" + numerals.get(index) + "\" at index " + index
+                    + " is not a valid Elbonian numeral.");
+        }
+        return total;
+    }
+
+    private static String numeral(long total) throws ValueOutOfBoundsException {
+        check(total);
+        return ElbonianTable.elbonian((int) total);
+    }
+
+    private static void check(long value) throws ValueOutOfBoundsException {
+        if (value > ElbonianTable.MAX_VALUE) {
+            throw new ValueOutOfBoundsException("Numbers larger than " + ElbonianTable.MAX_VALUE
+                    + " cannot be represented in the Elbonian number system.");
+        }
+        if (value < 1) {
+            throw new ValueOutOfBoundsException(value == 0 ? "Zero cannot be represented in the Elbonian number system."
+                    : "Negative numbers cannot be represented in the Elbonian number system.");
+        }
+    }
+
+    //Splits a range of the list in half until it is small enough to add up directly
+    private static final class Total extends RecursiveTask<Long> {
+
+        private final List<? extends CharSequence> numerals;
+        private final int from;
+        private final int to;
+
+        Total(List<? extends CharSequence> numerals, int from, int to) {
+            this.numerals = numerals;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= SUM_THRESHOLD) {
+                return accumulate(numerals, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            Total left = new Total(numerals, from, middle);
+            left.fork();
+            long right = new Total(numerals, middle, to).compute();
+            long sum = left.join();
+            //Report the first malformed numeral, which is in the left half if there is one there
+            if (sum < 0) {
+                return sum;
+            }
+            return right < 0 ? right : sum + right;
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package converter;
+
+import java.nio.CharBuffer;
+import java.util.BitSet;
+
+/**
+ * Converts whole arrays of numbers at once, for batch jobs where creating an ElbonianArabicConverter per
+ * value would cost too much. The conversions use the same rules as ElbonianArabicConverter.toElbonian() and
+ * toArabic() through the precomputed ElbonianTable.
+ *
+ * Elbonian numerals are packed one after another into a single char array or CharBuffer. An offsets array
+ * with one more entry than there are numerals tells where each numeral starts and ends: numeral i is held
+ * between offsets[i] and offsets[i + 1]. Elements that cannot be converted do not throw; their bit is set in
+ * an errors BitSet instead and their slot is left empty (or 0 for Arabic values).
+ *
+ * @version 10/18/26
+ */
+public final class ElbonianBatchConverter {
+
+    //The longest Elbonian numeral is NNMMDDCCYYXXJJII (8888)
+    public static final int MAX_NUMERAL_LENGTH = 16;
+
+    private ElbonianBatchConverter() {
+    }
+
+    /**
+     * Returns the number of chars that is always enough to hold the given number of Elbonian numerals.
+     *
+     * @param count The number of numerals
+     * @return The worst case number of chars, or Integer.MAX_VALUE if that does not fit in an int
+     */
+    public static int maxLength(int count) {
+        return (int) Math.min(maxLengthLong(count), Integer.MAX_VALUE);
+    }
+
+    //The worst case number of chars for count numerals, which cannot overflow
+    private static long maxLengthLong(int count) {
+        return (long) count * MAX_NUMERAL_LENGTH;
+    }
+
+    /**
+     * Converts Arabic values to Elbonian numerals packed into a char array.
+     *
+     * @param values The values to convert
+     * @param from The index of the first value to convert
+     * @param to The index after the last value to convert
+     * @param out The array the numerals are written to, starting at index 0
+     * @param offsets Receives the start of each numeral in out, plus the end of the last one; must hold at least
+     * to - from + 1 entries
+     * @param errors Bit i - from is set if values[i] cannot be represented in Elbonian and cleared otherwise
+     * @return The number of values that could not be converted
+     * @throws ArrayIndexOutOfBoundsException Thrown if out or offsets is too small.
+     */
+    public static int toElbonian(int[] values, int from, int to, char[] out, int[] offsets, BitSet errors) {
+        return encode(values, from, to, out, 0, offsets, errors);
+    }
+
+    /**
+     * Converts Arabic values to Elbonian numerals packed into a CharBuffer. Offsets are relative to the
+     * buffer's position when the method is called, and the buffer's position is moved past the numerals.
+     *
+     * @param values The values to convert
+     * @param from The index of the first value to convert
+     * @param to The index after the last value to convert
+     * @param out The buffer the numerals are written to
+     * @param offsets Receives the start of each numeral, plus the end of the last one; must hold at least
+     * to - from + 1 entries
+     * @param errors Bit i - from is set if values[i] cannot be represented in Elbonian and cleared otherwise
+     * @return The number of values that could not be converted
+     * @throws java.nio.BufferOverflowException Thrown if the buffer runs out of room.
+     */
+    public static int toElbonian(int[] values, int from, int to, CharBuffer out, int[] offsets, BitSet errors) {
+        int start = out.position();
+        //Write straight into the backing array when even the longest numerals are sure to fit
+        if (out.hasArray() && out.remaining() >= maxLengthLong(to - from)) {
+            int failed = encode(values, from, to, out.array(), out.arrayOffset() + start, offsets, errors);
+            out.position(start + offsets[to - from]);
+            return failed;
+        }
+
+        int failed = 0;
+        for (int i = from; i < to; i++) {
+            int value = values[i];
+            offsets[i - from] = out.position() - start;
+            if (value < 1 || value > ElbonianTable.MAX_VALUE) {
+                errors.set(i - from);
+                failed++;
+                continue;
+            }
+            errors.clear(i - from);
+            out.put(ElbonianTable.elbonian(value));
+        }
+        offsets[to - from] = out.position() - start;
+        return failed;
+    }
+
+    //Writes numerals into out starting at base; offsets are relative to base
+    private static int encode(int[] values, int from, int to, char[] out, int base, int[] offsets, BitSet errors) {
+        int failed = 0;
+        int position = 0;
+        for (int i = from; i < to; i++) {
+            int value = values[i];
+            offsets[i - from] = position;
+            if (value < 1 || value > ElbonianTable.MAX_VALUE) {
+                errors.set(i - from);
+                failed++;
+                continue;
+            }
+            errors.clear(i - from);
+            String numeral = ElbonianTable.elbonian(value);
+            numeral.getChars(0, numeral.length(), out, base + position);
+            position += numeral.length();
+        }
+        offsets[to - from] = position;
+        return failed;
+    }
+
+    /**
+     * Converts packed Elbonian numerals to Arabic values. Numeral i is read from text between offsets[i] and
+     * offsets[i + 1]; it may not contain spaces.
+     *
+     * @param text The packed numerals. A String, StringBuilder or CharBuffer can be passed directly.
+     * @param offsets The start of each numeral, plus the end of the last one
+     * @param count The number of numerals to convert
+     * @param out Receives the value of each numeral, or 0 for numerals that are not valid
+     * @param errors Bit i is set if numeral i is not a valid Elbonian numeral and cleared otherwise
+     * @return The number of numerals that could not be converted
+     */
+    public static int toArabic(CharSequence text, int[] offsets, int count, int[] out, BitSet errors) {
+        int failed = 0;
+        for (int i = 0; i < count; i++) {
+            int value = ElbonianTable.arabic(text, offsets[i], offsets[i + 1]);
+            if (value < 0) {
+                out[i] = 0;
+                errors.set(i);
+                failed++;
+            } else {
+                out[i] = value;
+                errors.clear(i);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Converts Elbonian numerals packed into a char array to Arabic values.
+     *
+     * @param text The packed numerals
+     * @param offsets The start of each numeral, plus the end of the last one
+     * @param count The number of numerals to convert
+     * @param out Receives the value of each numeral, or 0 for numerals that are not valid
+     * @param errors Bit i is set if numeral i is not a valid Elbonian numeral and cleared otherwise
+     * @return The number of numerals that could not be converted
+     */
+    public static int toArabic(char[] text, int[] offsets, int count, int[] out, BitSet errors) {
+        return toArabic(CharBuffer.wrap(text), offsets, count, out, errors);
+    }
+
+}
@@ -0,0 +1,65 @@
+package converter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A command line converter for short lived jobs. Each argument, or each line of standard input when there are
+ * no arguments, is printed in the other form, or as "ERR" followed by the reason it was rejected.
+ *
+ * This is the jar's main class and the program the Gradle cdsArchive and native-image setups start, so it
+ * only loads what a conversion needs: the parser, the tables and ElbonianNumber.
+ *
+ * @version 10/18/26
+ */
+public final class ElbonianCommand {
+
+    private ElbonianCommand() {
+    }
+
+    /**
+     * Converts the arguments, or standard input if there are none.
+     *
+     * @param args The numbers to convert
+     * @throws IOException Thrown if standard input cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII));
+        if (args.length > 0) {
+            for (String arg : args) {
+                convert(arg, out);
+            }
+        } else {
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.US_ASCII));
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                convert(line, out);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes one number in the other form, followed by a line break.
+     *
+     * @param number The number to convert, in either form
+     * @param out Receives the conversion, or "ERR" followed by the reason the number was rejected
+     * @throws IOException Thrown if out throws it.
+     */
+    public static void convert(String number, Writer out) throws IOException {
+        long result = ElbonianNumber.tryParse(number);
+        if (!ParseResult.isSuccess(result)) {
+            out.write("ERR " + ParseResult.message(result, number) + "\n");
+            return;
+        }
+        char first = number.trim().charAt(0);
+        int value = ParseResult.value(result);
+        out.write(first == '-' || (first >= '0' && first <= '9') ? ElbonianTable.elbonian(value) : Integer.toString(value));
+        out.write('\n');
+    }
+
+}
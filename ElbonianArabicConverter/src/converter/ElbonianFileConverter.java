@@ -0,0 +1,292 @@
+package converter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Converts files with one number per line. Every line that holds an Arabic number is written out in
+ * Elbonian and every line that holds an Elbonian number is written out in Arabic, following the same rules
+ * as the ElbonianArabicConverter constructor (so leading and trailing spaces are allowed).
+ *
+ * The input is memory mapped one window at a time and read byte by byte, and the output goes through one
+ * reusable direct buffer, so memory use does not depend on the size of the file. Lines that cannot be
+ * converted are written to the output as empty lines, which keeps input and output line numbers aligned,
+ * and are reported in a separate errors file as "line N: message".
+ *
+ * An ElbonianFileConverter reuses its buffers between calls and must not be shared between threads.
+ *
+ * @version 10/18/26
+ */
+public class ElbonianFileConverter {
+
+    //Default size of the part of the input that is mapped at once
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    //Default size of the output buffer
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    //Room for the longest converted line: 16 symbols and a line break
+    private static final int MAX_LINE_OUTPUT = ElbonianBatchConverter.MAX_NUMERAL_LENGTH + 1;
+
+    private final int windowSize;
+    private final int bufferSize;
+    private final AsciiSequence line = new AsciiSequence();
+
+    //The direct buffer used when writing to a channel, allocated on first use
+    private ByteBuffer buffer;
+
+    private ByteBuffer output;
+    private Output out;
+    private Writer errors;
+    private long errorCount;
+
+    /**
+     * Creates a converter with the default window and buffer sizes.
+     */
+    public ElbonianFileConverter() {
+        this(DEFAULT_WINDOW_SIZE, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a converter.
+     *
+     * @param windowSize The number of input bytes mapped at once. Lines longer than this are reported as errors.
+     * @param bufferSize The size of the direct output buffer
+     */
+    public ElbonianFileConverter(int windowSize, int bufferSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be positive: " + windowSize);
+        }
+        if (bufferSize < MAX_LINE_OUTPUT) {
+            throw new IllegalArgumentException("bufferSize must be at least " + MAX_LINE_OUTPUT + ": " + bufferSize);
+        }
+        this.windowSize = windowSize;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Converts every line of a file.
+     *
+     * @param input The file to convert
+     * @param output The file the converted lines are written to; it is replaced if it exists
+     * @param errors The file malformed lines are reported in; it is replaced if it exists
+     * @return The number of lines that could not be converted
+     * @throws IOException Thrown if one of the files cannot be read or written.
+     */
+    public long convert(Path input, Path output, Path errors) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+             BufferedWriter errorWriter = Files.newBufferedWriter(errors, StandardCharsets.UTF_8)) {
+            return convert(in, 0, in.size(), 0, out, errorWriter);
+        }
+    }
+
+    /**
+     * Converts the lines held between two positions of a file. The range must start at the beginning of a
+     * line and end just after a line break or at the end of the file.
+     *
+     * @param in The file to read
+     * @param start The position of the first byte to convert
+     * @param end The position after the last byte to convert
+     * @param firstLine The number of lines in the file before start, used in error messages
+     * @param out Receives the converted lines
+     * @param errors Receives a description of every line that could not be converted
+     * @return The number of lines that could not be converted
+     * @throws IOException Thrown if the file cannot be read or the output cannot be written.
+     */
+    long convert(FileChannel in, long start, long end, long firstLine, WritableByteChannel out, Writer errors)
+            throws IOException {
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        buffer.clear();
+        return convert(in, start, end, firstLine, buffer, full -> {
+            while (full.hasRemaining()) {
+                out.write(full);
+            }
+            return full.clear();
+        }, errors);
+    }
+
+    /**
+     * Converts the lines held between two positions of a file into buffers supplied by the caller, so the
+     * converted bytes can be kept without copying them. The range must start at the beginning of a line and end
+     * just after a line break or at the end of the file.
+     *
+     * @param in The file to read
+     * @param start The position of the first byte to convert
+     * @param end The position after the last byte to convert
+     * @param firstLine The number of lines in the file before start, used in error messages
+     * @param first The buffer the first converted lines are put in; it must hold at least MAX_NUMERAL_LENGTH + 1
+     * bytes
+     * @param out Receives every buffer once it is full, and the last one once the range is converted
+     * @param errors Receives a description of every line that could not be converted
+     * @return The number of lines that could not be converted
+     * @throws IOException Thrown if the file cannot be read or the output cannot be written.
+     */
+    long convert(FileChannel in, long start, long end, long firstLine, ByteBuffer first, Output out, Writer errors)
+            throws IOException {
+        this.output = first;
+        this.out = out;
+        this.errors = errors;
+        this.errorCount = 0;
+        try {
+            convert(in, start, end, firstLine);
+            output.flip();
+            out.last(output);
+            return errorCount;
+        } finally {
+            this.output = null;
+            this.out = null;
+            this.errors = null;
+        }
+    }
+
+    //Converts the lines between two positions of a file, one mapped window at a time
+    private void convert(FileChannel in, long start, long end, long firstLine) throws IOException {
+        long lineNumber = firstLine;
+        long position = start;
+        boolean skipping = false;
+        while (position < end) {
+            int length = (int) Math.min(windowSize, end - position);
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+            boolean last = position + length == end;
+
+            int lineStart = 0;
+            for (int i = 0; i < length; i++) {
+                if (window.get(i) == '\n') {
+                    if (skipping) {
+                        skipping = false;
+                    } else {
+                        convertLine(window, lineStart, i, ++lineNumber);
+                    }
+                    lineStart = i + 1;
+                }
+            }
+
+            if (last) {
+                if (lineStart < length && !skipping) {
+                    convertLine(window, lineStart, length, ++lineNumber);
+                }
+                position = end;
+            } else if (lineStart == 0) {
+                //The whole window is one line; report it once and skip ahead to its line break
+                if (!skipping) {
+                    lineNumber++;
+                    reject(lineNumber, "Line is longer than " + windowSize + " bytes.");
+                    skipping = true;
+                }
+                position += length;
+            } else {
+                //Map the next window from the start of the unfinished line
+                position += lineStart;
+            }
+        }
+    }
+
+    //Converts one line, given without its line break
+    private void convertLine(ByteBuffer window, int from, int to, long lineNumber) throws IOException {
+        if (to > from && window.get(to - 1) == '\r') {
+            to--;
+        }
+        line.reset(window, from, to);
+        long result = ElbonianParser.tryParse(line, 0, line.length());
+        if (result < 0) {
+            reject(lineNumber, ParseResult.message(result, line));
+            return;
+        }
+        int value = (int) result;
+
+        if (output.remaining() < MAX_LINE_OUTPUT) {
+            flush();
+        }
+        if (isArabic(line)) {
+            String numeral = ElbonianTable.elbonian(value);
+            for (int i = 0; i < numeral.length(); i++) {
+                output.put((byte) numeral.charAt(i));
+            }
+        } else {
+            putArabic(output, value);
+        }
+        output.put((byte) '\n');
+    }
+
+    //Reports a line that could not be converted and leaves an empty line in its place
+    private void reject(long lineNumber, String message) throws IOException {
+        errorCount++;
+        errors.write("line " + lineNumber + ": " + message + "\n");
+        if (!output.hasRemaining()) {
+            flush();
+        }
+        output.put((byte) '\n');
+    }
+
+    //Hands the full output buffer over and continues in the one given back
+    private void flush() throws IOException {
+        output.flip();
+        output = out.next(output);
+    }
+
+    /**
+     * Takes the output of convert() one buffer at a time.
+     */
+    interface Output {
+
+        /**
+         * Takes a buffer of converted bytes.
+         *
+         * @param full The buffer, flipped so the converted bytes lie between its position and its limit
+         * @return An empty buffer to put the next converted lines in; it may be the same one, cleared
+         * @throws IOException Thrown if the bytes cannot be written.
+         */
+        ByteBuffer next(ByteBuffer full) throws IOException;
+
+        /**
+         * Takes the last buffer of a range, which needs no buffer to follow it.
+         *
+         * @param full The buffer, flipped so the converted bytes lie between its position and its limit
+         * @throws IOException Thrown if the bytes cannot be written.
+         */
+        default void last(ByteBuffer full) throws IOException {
+            next(full);
+        }
+    }
+
+    /**
+     * Tells whether an already validated number is in the Arabic form.
+     *
+     * @param number A number accepted by ElbonianParser
+     * @return True if the first non space character is a digit or a minus sign
+     */
+    static boolean isArabic(CharSequence number) {
+        int i = 0;
+        while (number.charAt(i) == ' ') {
+            i++;
+        }
+        char first = number.charAt(i);
+        return first == '-' || (first >= '0' && first <= '9');
+    }
+
+    /**
+     * Writes the digits of a value between 1 and 9999 as ASCII.
+     *
+     * @param buffer The buffer to write to
+     * @param value The value to write
+     */
+    static void putArabic(ByteBuffer buffer, int value) {
+        for (int divisor = value >= 1000 ? 1000 : value >= 100 ? 100 : value >= 10 ? 10 : 1; divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+}
@@ -0,0 +1,336 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * An index from values to records, for finding every record whose number lies in a range without parsing the
+ * records again. A record is identified by a long chosen by whoever adds it, such as a line number or a file
+ * offset.
+ *
+ * Since there are only 9999 values, the index is a counting sort: the record pointers sorted by value, and the
+ * position in that array where each value starts. Counting the records in a range is then two lookups, and
+ * listing them reads one contiguous slice. Records with the same value keep the order they were added in.
+ *
+ * An index is built with a Builder in one pass over the data, can be written to a file and opened again by
+ * mapping the file, so a large index is not read into the heap. An index may be used from several threads.
+ * The file layout, little endian, is:
+ * <pre>
+ * magic "ELBI" (4 bytes), version (2), unused (2), number of records (8)
+ * where each value starts in the record array (4 bytes each, for the values 0 to 10000)
+ * the record pointers sorted by value (8 bytes each)
+ * </pre>
+ *
+ * @version 10/18/26
+ */
+public final class ElbonianIndex {
+
+    //"ELBI" read as a little endian int
+    private static final int MAGIC = 'E' | 'L' << 8 | 'B' << 16 | 'I' << 24;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int STARTS = ElbonianTable.MAX_VALUE + 2;
+
+    //Most records an index can hold, so the whole file fits in one mapping
+    public static final int MAX_RECORDS = (Integer.MAX_VALUE - HEADER_SIZE - 4 * STARTS) / 8;
+
+    //starts.get(v) is the index in records of the first record with value v; starts.get(v + 1) ends them
+    private final IntBuffer starts;
+    private final LongBuffer records;
+
+    private ElbonianIndex(IntBuffer starts, LongBuffer records) {
+        this.starts = starts;
+        this.records = records;
+    }
+
+    /**
+     * Indexes a text file of numbers separated by line breaks or commas, in either form. Each record pointer
+     * is the file offset of the number's first character. Numbers that cannot be parsed are left out.
+     *
+     * @param file The file to read
+     * @return The index
+     * @throws IOException Thrown if the file cannot be read.
+     */
+    public static ElbonianIndex build(Path file) throws IOException {
+        Indexer indexer = new Indexer();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer chunk = ByteBuffer.allocateDirect(64 * 1024);
+            while (channel.read(chunk) >= 0) {
+                chunk.flip();
+                indexer.decoder.accept(chunk);
+                chunk.clear();
+            }
+        }
+        indexer.decoder.finish();
+        return indexer.builder.build();
+    }
+
+    /**
+     * Opens an index written by write(). The file is mapped, not read.
+     *
+     * @param file The file to open
+     * @return The index
+     * @throws IOException Thrown if the file cannot be read or is not an index.
+     */
+    public static ElbonianIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + 4L * STARTS || size > Integer.MAX_VALUE) {
+                throw new IOException(file + " is not an index");
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.getInt(0) != MAGIC) {
+                throw new IOException(file + " is not an index");
+            }
+            if (mapped.getShort(4) != VERSION) {
+                throw new IOException(file + " has unsupported version " + mapped.getShort(4));
+            }
+            long count = mapped.getLong(8);
+            if (count != (size - HEADER_SIZE - 4L * STARTS) / 8 || mapped.getInt(HEADER_SIZE + 4 * (STARTS - 1)) != count) {
+                throw new IOException(file + " is damaged");
+            }
+            IntBuffer starts = mapped.position(HEADER_SIZE).slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            starts.limit(STARTS);
+            LongBuffer records = mapped.position(HEADER_SIZE + 4 * STARTS).slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+            return new ElbonianIndex(starts.slice(), records);
+        }
+    }
+
+    /**
+     * Writes the index to a file that open() can read.
+     *
+     * @param file The file to write; it is replaced if it exists
+     * @throws IOException Thrown if the file cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putLong(size());
+            for (int v = 0; v < STARTS; v++) {
+                if (buffer.remaining() < 4) {
+                    flush(channel, buffer);
+                }
+                buffer.putInt(starts.get(v));
+            }
+            for (int i = 0; i < records.limit(); i++) {
+                if (buffer.remaining() < 8) {
+                    flush(channel, buffer);
+                }
+                buffer.putLong(records.get(i));
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * @return The number of records in the index
+     */
+    public int size() {
+        return records.limit();
+    }
+
+    /**
+     * Counts the records whose value lies in a range.
+     *
+     * @param low The smallest value of the range
+     * @param high The largest value of the range
+     * @return The number of records
+     */
+    public int count(int low, int high) {
+        low = Math.max(low, ElbonianNumber.MIN_VALUE);
+        high = Math.min(high, ElbonianNumber.MAX_VALUE);
+        return low > high ? 0 : starts.get(high + 1) - starts.get(low);
+    }
+
+    /**
+     * Counts the records whose value lies between two Elbonian numerals.
+     *
+     * @param low The numeral of the smallest value of the range
+     * @param high The numeral of the largest value of the range
+     * @return The number of records
+     * @throws MalformedNumberException Thrown if either numeral is not valid.
+     */
+    public int count(CharSequence low, CharSequence high) throws MalformedNumberException {
+        return count(ElbonianArabicConverter.toArabic(low), ElbonianArabicConverter.toArabic(high));
+    }
+
+    /**
+     * Returns the records whose value lies in a range, ordered by value.
+     *
+     * @param low The smallest value of the range
+     * @param high The largest value of the range
+     * @return The record pointers
+     */
+    public long[] range(int low, int high) {
+        long[] found = new long[count(low, high)];
+        if (found.length > 0) {
+            records.get(starts.get(Math.max(low, ElbonianNumber.MIN_VALUE)), found);
+        }
+        return found;
+    }
+
+    /**
+     * Passes the records whose value lies in a range to an action, ordered by value, without collecting them.
+     *
+     * @param low The smallest value of the range
+     * @param high The largest value of the range
+     * @param action Receives each record pointer
+     */
+    public void range(int low, int high, LongConsumer action) {
+        int count = count(low, high);
+        int from = count == 0 ? 0 : starts.get(Math.max(low, ElbonianNumber.MIN_VALUE));
+        for (int i = from; i < from + count; i++) {
+            action.accept(records.get(i));
+        }
+    }
+
+    /**
+     * Returns the records with the largest values, the largest first. Records with the same value come in the
+     * order they were added.
+     *
+     * @param k The largest number of records to return
+     * @return At most k record pointers
+     */
+    public long[] top(int k) {
+        long[] found = new long[Math.min(k, size())];
+        int filled = 0;
+        for (int value = ElbonianNumber.MAX_VALUE; filled < found.length; value--) {
+            int from = starts.get(value);
+            int taken = Math.min(starts.get(value + 1) - from, found.length - filled);
+            records.get(from, found, filled, taken);
+            filled += taken;
+        }
+        return found;
+    }
+
+    /**
+     * Returns the value of the record at a position of the index, which is ordered by value.
+     *
+     * @param rank The position, between 0 and size() - 1
+     * @return The value of the record at that position
+     */
+    public int valueAt(int rank) {
+        if (rank < 0 || rank >= size()) {
+            throw new IndexOutOfBoundsException("rank " + rank + ", size " + size());
+        }
+        //The last value whose start is at or before rank
+        int low = ElbonianNumber.MIN_VALUE;
+        int high = ElbonianNumber.MAX_VALUE;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (starts.get(middle) <= rank) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    //Adds every number the decoder reads, pointing at where it starts
+    private static final class Indexer implements ElbonianStreamDecoder.Sink {
+
+        final Builder builder = new Builder();
+        final ElbonianStreamDecoder decoder = new ElbonianStreamDecoder(this);
+
+        @Override
+        public void value(int value) {
+            builder.addValid(value, decoder.start());
+        }
+
+        @Override
+        public void rejected(int error, long position) {
+            //Numbers that cannot be parsed are left out of the index
+        }
+    }
+
+    /**
+     * Collects records and their values for an index. Adding is a pair of array writes; the sort happens once,
+     * in build().
+     */
+    public static final class Builder {
+
+        private short[] values = new short[1024];
+        private long[] records = new long[1024];
+        private int count;
+
+        /**
+         * Adds a record.
+         *
+         * @param value The value of the record's number
+         * @param record The record pointer
+         * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system.
+         */
+        public void add(int value, long record) throws ValueOutOfBoundsException {
+            if (value < ElbonianNumber.MIN_VALUE || value > ElbonianNumber.MAX_VALUE) {
+                throw new ValueOutOfBoundsException("Value " + value + " cannot be represented in the Elbonian number system.");
+            }
+            addValid(value, record);
+        }
+
+        /**
+         * Adds a record.
+         *
+         * @param number The record's number
+         * @param record The record pointer
+         */
+        public void add(ElbonianNumber number, long record) {
+            addValid(number.toArabic(), record);
+        }
+
+        private void addValid(int value, long record) {
+            if (count == values.length) {
+                if (count == MAX_RECORDS) {
+                    throw new IllegalStateException("An index holds at most " + MAX_RECORDS + " records");
+                }
+                int grown = (int) Math.min(MAX_RECORDS, count * 2L);
+                values = Arrays.copyOf(values, grown);
+                records = Arrays.copyOf(records, grown);
+            }
+            values[count] = (short) value;
+            records[count++] = record;
+        }
+
+        /**
+         * Sorts the records added so far into an index. The builder can go on being used.
+         *
+         * @return The index
+         */
+        public ElbonianIndex build() {
+            int[] starts = new int[STARTS];
+            for (int i = 0; i < count; i++) {
+                starts[values[i] + 1]++;
+            }
+            for (int v = 1; v < STARTS; v++) {
+                starts[v] += starts[v - 1];
+            }
+            long[] sorted = new long[count];
+            int[] next = Arrays.copyOf(starts, STARTS);
+            for (int i = 0; i < count; i++) {
+                sorted[next[values[i]]++] = records[i];
+            }
+            return new ElbonianIndex(IntBuffer.wrap(starts), LongBuffer.wrap(sorted));
+        }
+    }
+
+}
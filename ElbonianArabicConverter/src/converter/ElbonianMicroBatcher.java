@@ -0,0 +1,304 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Collects conversions requested by many threads into micro batches that one consumer thread converts in a
+ * single pass. A request costs the caller one lock free enqueue and returns a CompletableFuture; the fixed
+ * costs of waking a thread and of handing results back are paid once per batch instead of once per call.
+ *
+ * A batch is converted as soon as it holds maxBatchSize requests, or once linger has passed since its first
+ * request arrived, whichever comes first. A linger of 0 converts whatever is queued as soon as the consumer
+ * gets to it, which keeps latency lowest; a longer linger trades latency for larger batches. While a batch
+ * lingers, producers leave the consumer asleep until enough requests are queued to fill it, so the consumer
+ * wakes about once per batch however many threads submit.
+ *
+ * Requests wait in a multi producer, single consumer linked queue (Dmitry Vyukov's design): producers
+ * swap themselves in as the tail with one atomic exchange and never wait for each other or for the
+ * consumer. Futures are completed on the consumer thread, so work chained on them with the non async
+ * methods of CompletableFuture runs there too and delays the next batch; use the async variants for
+ * anything slow.
+ *
+ * @version 10/18/26
+ */
+public class ElbonianMicroBatcher implements AutoCloseable {
+
+    //Default largest number of requests converted in one pass
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    //Default time a batch waits for more requests after its first one
+    public static final long DEFAULT_LINGER_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final Request[] batch;
+    private final Thread consumer;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder wakeups = new LongAdder();
+
+    //The queue: the consumer owns head, producers append at tail
+    private Request head;
+    private final AtomicReference<Request> tail;
+
+    //The number of requests ever enqueued, and ever moved into a batch by the consumer
+    private final AtomicLong enqueued = new AtomicLong();
+    private long drained;
+
+    //The enqueued count at which a producer must wake the parked consumer; Long.MAX_VALUE while it runs
+    private final AtomicLong wakeAt = new AtomicLong(Long.MAX_VALUE);
+    private volatile boolean closed;
+    private volatile boolean terminated;
+
+    /**
+     * Creates a batcher with the default batch size and linger time.
+     */
+    public ElbonianMicroBatcher() {
+        this(DEFAULT_MAX_BATCH_SIZE, DEFAULT_LINGER_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates a batcher and starts its consumer thread.
+     *
+     * @param maxBatchSize The largest number of requests converted in one pass
+     * @param linger How long a batch waits for more requests after its first one
+     * @param unit The unit of linger
+     */
+    public ElbonianMicroBatcher(int maxBatchSize, long linger, TimeUnit unit) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        if (linger < 0) {
+            throw new IllegalArgumentException("linger must not be negative: " + linger);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = unit.toNanos(linger);
+        this.batch = new Request[maxBatchSize];
+        this.head = new Request(null, 0, null);
+        this.tail = new AtomicReference<>(head);
+        this.consumer = new Thread(this::consume, "elbonian-micro-batcher");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Converts an Elbonian numeral to its Arabic value, like ElbonianArabicConverter.toArabic(CharSequence).
+     *
+     * @param elbonian The numeral; it must not change until the future completes
+     * @return A future that completes with the value, or with a MalformedNumberException if the numeral does
+     * not follow the rules of the Elbonian number system
+     * @throws RejectedExecutionException Thrown if the batcher has been closed.
+     */
+    public CompletableFuture<Integer> toArabic(CharSequence elbonian) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        submit(new Request(elbonian, 0, result));
+        return result;
+    }
+
+    /**
+     * Converts an Arabic value to Elbonian, like ElbonianArabicConverter.toElbonian(int).
+     *
+     * @param arabic The value
+     * @return A future that completes with the numeral, or with a ValueOutOfBoundsException if the value cannot
+     * be represented in the Elbonian number system
+     * @throws RejectedExecutionException Thrown if the batcher has been closed.
+     */
+    public CompletableFuture<String> toElbonian(int arabic) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        submit(new Request(null, arabic, result));
+        return result;
+    }
+
+    /**
+     * Returns the number of batches converted so far.
+     *
+     * @return The batch count
+     */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /**
+     * Returns the number of requests converted so far.
+     *
+     * @return The request count
+     */
+    public long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of times the consumer thread was parked waiting for requests, which is about the
+     * number of times it was woken.
+     *
+     * @return The wakeup count
+     */
+    public long wakeups() {
+        return wakeups.sum();
+    }
+
+    /**
+     * Stops accepting requests, converts the ones already queued and waits for the consumer thread to end.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(consumer);
+        boolean interrupted = false;
+        while (consumer.isAlive()) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        terminated = true;
+        rejectQueued();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(Request request) {
+        if (closed) {
+            throw new RejectedExecutionException("The batcher is closed");
+        }
+        Request previous = tail.getAndSet(request);
+        previous.next = request;
+        long count = enqueued.incrementAndGet();
+        if (terminated) {
+            //Enqueued after the consumer's last pass; nobody else will answer it
+            rejectQueued();
+        } else {
+            long target = wakeAt.get();
+            if (count >= target && wakeAt.compareAndSet(target, Long.MAX_VALUE)) {
+                LockSupport.unpark(consumer);
+            }
+        }
+    }
+
+    //The consumer thread: gathers a batch, converts it, repeats
+    private void consume() {
+        while (true) {
+            int size = gather();
+            if (size == 0) {
+                return;
+            }
+            convert(size);
+        }
+    }
+
+    //Fills the batch array, waiting as configured; returns 0 once closed and empty
+    private int gather() {
+        int size = drain(0);
+        while (size == 0) {
+            if (closed) {
+                return drain(0);
+            }
+            park(0, drained + 1);
+            size = drain(0);
+        }
+        if (lingerNanos > 0 && size < maxBatchSize && !closed) {
+            long deadline = System.nanoTime() + lingerNanos;
+            long remaining;
+            while (size < maxBatchSize && !closed && (remaining = deadline - System.nanoTime()) > 0) {
+                //Sleep until the batch can be filled or the deadline passes, not on every request
+                park(remaining, drained + maxBatchSize - size);
+                size = drain(size);
+            }
+        }
+        return size;
+    }
+
+    //Moves queued requests into the batch array after the first size entries and returns the new size
+    private int drain(int size) {
+        while (size < maxBatchSize) {
+            Request next = head.next;
+            if (next == null) {
+                break;
+            }
+            batch[size++] = next;
+            head = next;
+            drained++;
+        }
+        return size;
+    }
+
+    //Parks until target requests have been enqueued in all, or for at most nanos if it is positive
+    private void park(long nanos, long target) {
+        wakeAt.set(target);
+        //A producer that enqueues after this check sees the target and wakes the consumer
+        if (enqueued.get() < target && !closed) {
+            wakeups.increment();
+            if (nanos > 0) {
+                LockSupport.parkNanos(this, nanos);
+            } else {
+                LockSupport.park(this);
+            }
+        }
+        wakeAt.set(Long.MAX_VALUE);
+    }
+
+    //Converts one batch and completes its futures
+    @SuppressWarnings("unchecked")
+    private void convert(int size) {
+        batches.increment();
+        requests.add(size);
+        for (int i = 0; i < size; i++) {
+            Request request = batch[i];
+            batch[i] = null;
+            if (request.elbonian != null) {
+                int arabic = ElbonianTable.arabic(request.elbonian, 0, request.elbonian.length());
+                CompletableFuture<Integer> result = (CompletableFuture<Integer>) request.result;
+                if (arabic < 0) {
+                    result.completeExceptionally(new MalformedNumberException(
+                            "\"" + request.elbonian + "\" is not a valid Elbonian numeral."));
+                } else {
+                    result.complete(arabic);
+                }
+            } else {
+                CompletableFuture<String> result = (CompletableFuture<String>) request.result;
+                if (request.arabic < 1 || request.arabic > ElbonianTable.MAX_VALUE) {
+                    result.completeExceptionally(new ValueOutOfBoundsException(
+                            "Value " + request.arabic + " cannot be represented in the Elbonian number system."));
+                } else {
+                    result.complete(ElbonianTable.elbonian(request.arabic));
+                }
+            }
+        }
+    }
+
+    //Fails whatever is left in the queue once the consumer has ended
+    private synchronized void rejectQueued() {
+        Request next;
+        while ((next = head.next) != null) {
+            head = next;
+            next.result.completeExceptionally(new RejectedExecutionException("The batcher is closed"));
+        }
+    }
+
+    //A queued conversion; the queue is linked through the requests themselves
+    private static final class Request {
+
+        final CharSequence elbonian;
+        final int arabic;
+        final CompletableFuture<?> result;
+        volatile Request next;
+
+        Request(CharSequence elbonian, int arabic, CompletableFuture<?> result) {
+            this.elbonian = elbonian;
+            this.arabic = arabic;
+            this.result = result;
+        }
+    }
+
+}
@@ -0,0 +1,303 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * An immutable number that can be written in the Elbonian number system (1 - 9999). It only stores the
+ * value, so converting to either form is a lookup. There is exactly one instance per value: every factory
+ * returns the cached instance, like Integer.valueOf() does for small integers, so converting in a loop does
+ * not create new objects.
+ *
+ * @version 10/18/26
+ */
+public final class ElbonianNumber implements Comparable<ElbonianNumber> {
+
+    //The smallest and largest numbers the Elbonian number system can represent
+    public static final int MIN_VALUE = 1;
+    public static final int MAX_VALUE = ElbonianTable.MAX_VALUE;
+
+    private final short value;
+
+    private ElbonianNumber(int value) {
+        this.value = (short) value;
+    }
+
+    /**
+     * Returns the number with the given value. Use ofArabic() instead when the value comes from outside and
+     * has not been checked yet.
+     *
+     * @param arabic A value between 1 and 9999
+     * @return The cached ElbonianNumber for the value
+     * @throws IllegalArgumentException Thrown if the value cannot be represented in the Elbonian number system.
+     */
+    public static ElbonianNumber valueOf(int arabic) {
+        if (arabic < MIN_VALUE || arabic > MAX_VALUE) {
+            throw new IllegalArgumentException("Value " + arabic + " cannot be represented in the Elbonian number system.");
+        }
+        return Cache.NUMBERS[arabic];
+    }
+
+    /**
+     * Returns the number with the given Arabic value.
+     *
+     * @param arabic The value
+     * @return The cached ElbonianNumber for the value
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system.
+     */
+    public static ElbonianNumber ofArabic(int arabic) throws ValueOutOfBoundsException {
+        if (arabic < MIN_VALUE || arabic > MAX_VALUE) {
+            throw new ValueOutOfBoundsException("Value " + arabic + " cannot be represented in the Elbonian number system.");
+        }
+        return Cache.NUMBERS[arabic];
+    }
+
+    /**
+     * Parses an Arabic or Elbonian number with the same rules as the ElbonianArabicConverter constructor:
+     * leading and trailing spaces are allowed, spaces inside the number are not.
+     *
+     * @param number The number to parse
+     * @return The cached ElbonianNumber for the value
+     * @throws MalformedNumberException Thrown if the number is not a well formed Arabic or Elbonian number.
+     * @throws ValueOutOfBoundsException Thrown if the number is Arabic and cannot be represented in the Elbonian
+     * number system.
+     */
+    public static ElbonianNumber parse(CharSequence number) throws MalformedNumberException, ValueOutOfBoundsException {
+        return Cache.NUMBERS[ElbonianParser.parse(number, 0, number.length())];
+    }
+
+    /**
+     * Parses a number held in part of a character sequence, without copying it. The rules are the same as for
+     * parse(CharSequence), and error messages give indexes in the whole sequence.
+     *
+     * @param number The characters to read, for example a String, a StringBuilder or a CharBuffer wrapping a char[]
+     * @param offset The index of the first character of the number
+     * @param length The number of characters to read
+     * @return The cached ElbonianNumber for the value
+     * @throws MalformedNumberException Thrown if the number is not a well formed Arabic or Elbonian number.
+     * @throws ValueOutOfBoundsException Thrown if the number is Arabic and cannot be represented in the Elbonian
+     * number system.
+     */
+    public static ElbonianNumber parse(CharSequence number, int offset, int length)
+            throws MalformedNumberException, ValueOutOfBoundsException {
+        checkRange(offset, length, number.length());
+        return Cache.NUMBERS[ElbonianParser.parse(number, offset, offset + length)];
+    }
+
+    /**
+     * Parses a number held in part of a byte array as ASCII, without decoding it into a String.
+     *
+     * @param number The bytes to read
+     * @param offset The index of the first byte of the number
+     * @param length The number of bytes to read
+     * @return The cached ElbonianNumber for the value
+     * @throws MalformedNumberException Thrown if the number is not a well formed Arabic or Elbonian number.
+     * @throws ValueOutOfBoundsException Thrown if the number is Arabic and cannot be represented in the Elbonian
+     * number system.
+     */
+    public static ElbonianNumber parse(byte[] number, int offset, int length)
+            throws MalformedNumberException, ValueOutOfBoundsException {
+        checkRange(offset, length, number.length);
+        long result = ElbonianParser.tryParse(number, offset, offset + length);
+        if (result < 0) {
+            ElbonianParser.fail(new AsciiSequence().reset(ByteBuffer.wrap(number), 0, offset + length), result, true);
+        }
+        return Cache.NUMBERS[(int) result];
+    }
+
+    /**
+     * Parses a number held in part of a ByteBuffer as ASCII, without decoding it into a String. The offset is
+     * an absolute index into the buffer, and the number must end at or before the buffer's limit; the position
+     * and limit are not changed.
+     *
+     * @param number The buffer to read
+     * @param offset The index of the first byte of the number
+     * @param length The number of bytes to read
+     * @return The cached ElbonianNumber for the value
+     * @throws MalformedNumberException Thrown if the number is not a well formed Arabic or Elbonian number.
+     * @throws ValueOutOfBoundsException Thrown if the number is Arabic and cannot be represented in the Elbonian
+     * number system.
+     * @throws IndexOutOfBoundsException Thrown if the range does not lie below the buffer's limit.
+     */
+    public static ElbonianNumber parse(ByteBuffer number, int offset, int length)
+            throws MalformedNumberException, ValueOutOfBoundsException {
+        checkRange(offset, length, number.limit());
+        long result = ElbonianParser.tryParse(number, offset, offset + length);
+        if (result < 0) {
+            //Only a rejected number needs the bytes as characters, for the message
+            ElbonianParser.fail(new AsciiSequence().reset(number, 0, offset + length), result, true);
+        }
+        return Cache.NUMBERS[(int) result];
+    }
+
+    /**
+     * Parses a number like parse(CharSequence), but reports a rejected number in the result instead of
+     * throwing, so rejecting garbage creates no exception and no message. Use ParseResult to read the result.
+     *
+     * @param number The number to parse
+     * @return The value of the number, or a negative result describing why it was rejected
+     */
+    public static long tryParse(CharSequence number) {
+        return ElbonianParser.tryParse(number, 0, number.length());
+    }
+
+    /**
+     * Parses a number held in part of a character sequence like parse(CharSequence, int, int), but reports a
+     * rejected number in the result instead of throwing. Indexes in the result are indexes in the whole sequence.
+     *
+     * @param number The characters to read
+     * @param offset The index of the first character of the number
+     * @param length The number of characters to read
+     * @return The value of the number, or a negative result describing why it was rejected
+     */
+    public static long tryParse(CharSequence number, int offset, int length) {
+        checkRange(offset, length, number.length());
+        return ElbonianParser.tryParse(number, offset, offset + length);
+    }
+
+    /**
+     * Parses a number held in part of a ByteBuffer as ASCII like parse(ByteBuffer, int, int), but reports a
+     * rejected number in the result instead of throwing.
+     *
+     * @param number The buffer to read
+     * @param offset The index of the first byte of the number
+     * @param length The number of bytes to read
+     * @return The value of the number, or a negative result describing why it was rejected
+     * @throws IndexOutOfBoundsException Thrown if the range does not lie below the buffer's limit.
+     */
+    public static long tryParse(ByteBuffer number, int offset, int length) {
+        checkRange(offset, length, number.limit());
+        return ElbonianParser.tryParse(number, offset, offset + length);
+    }
+
+    //Checks that offset and length describe a range inside something of the given size
+    private static void checkRange(int offset, int length, int size) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", size " + size);
+        }
+    }
+
+    /**
+     * Returns the value of this number.
+     *
+     * @return The Arabic value
+     */
+    public int toArabic() {
+        return value;
+    }
+
+    /**
+     * Returns this number written in Elbonian. The String is shared and is not created by this call.
+     *
+     * @return The Elbonian numeral
+     */
+    public String toElbonian() {
+        return ElbonianTable.elbonian(value);
+    }
+
+    /**
+     * Appends this number written in Elbonian, without creating a String.
+     *
+     * @param out The Appendable to write to, for example a StringBuilder or a Writer
+     * @param <A> The type of the Appendable
+     * @return out
+     * @throws IOException Thrown if out throws it.
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        out.append(ElbonianTable.elbonian(value));
+        return out;
+    }
+
+    /**
+     * Writes this number in Elbonian as ASCII bytes at the buffer's position, and moves the position past them.
+     *
+     * @param out The buffer to write to
+     * @return out
+     * @throws BufferOverflowException Thrown if the buffer does not have room for the numeral.
+     * @throws java.nio.ReadOnlyBufferException Thrown if the buffer is read only.
+     */
+    public ByteBuffer appendTo(ByteBuffer out) {
+        String numeral = ElbonianTable.elbonian(value);
+        if (out.remaining() < numeral.length()) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < numeral.length(); i++) {
+            out.put((byte) numeral.charAt(i));
+        }
+        return out;
+    }
+
+    /**
+     * Returns the sum of this number and another.
+     *
+     * @param other The number to add
+     * @return The cached ElbonianNumber for the sum
+     * @throws ValueOutOfBoundsException Thrown if the sum is larger than 9999.
+     */
+    public ElbonianNumber plus(ElbonianNumber other) throws ValueOutOfBoundsException {
+        int sum = value + other.value;
+        if (sum > MAX_VALUE) {
+            throw new ValueOutOfBoundsException("Numbers larger than " + MAX_VALUE
+                    + " cannot be represented in the Elbonian number system.");
+        }
+        return Cache.NUMBERS[sum];
+    }
+
+    /**
+     * Returns this number minus another.
+     *
+     * @param other The number to subtract
+     * @return The cached ElbonianNumber for the difference
+     * @throws ValueOutOfBoundsException Thrown if other is not smaller than this number.
+     */
+    public ElbonianNumber minus(ElbonianNumber other) throws ValueOutOfBoundsException {
+        int difference = value - other.value;
+        if (difference < MIN_VALUE) {
+            throw new ValueOutOfBoundsException(difference == 0 ? "Zero cannot be represented in the Elbonian number system."
+                    : "Negative numbers cannot be represented in the Elbonian number system.");
+        }
+        return Cache.NUMBERS[difference];
+    }
+
+    @Override
+    public int compareTo(ElbonianNumber other) {
+        return Integer.compare(value, other.value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ElbonianNumber && ((ElbonianNumber) other).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return value;
+    }
+
+    /**
+     * Returns this number written in Elbonian.
+     *
+     * @return The Elbonian numeral
+     */
+    @Override
+    public String toString() {
+        return toElbonian();
+    }
+
+    //One instance per value, created the first time a number is asked for
+    private static final class Cache {
+
+        static final ElbonianNumber[] NUMBERS = new ElbonianNumber[MAX_VALUE + 1];
+
+        static {
+            for (int i = MIN_VALUE; i <= MAX_VALUE; i++) {
+                NUMBERS[i] = new ElbonianNumber(i);
+            }
+        }
+    }
+
+}
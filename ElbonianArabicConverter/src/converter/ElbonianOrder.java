@@ -0,0 +1,78 @@
+package converter;
+
+import java.util.Comparator;
+
+/**
+ * Compares Elbonian numerals by value without converting them. Rank every symbol by its weight, I lowest and N
+ * highest, and compare numerals symbol by symbol, a numeral that ends first being the smaller: for valid
+ * numerals this gives the same order as their values.
+ *
+ * The reason is that numerals are written greedily. Where two valid numerals first differ, one has a symbol
+ * of weight w and the other a lighter symbol or nothing. Both passed the same prefix, so the second could
+ * also have written the heavier symbol, and would have if the rest of its value were w or more; so the rest
+ * of the second numeral is worth less than w, which the first has still to add.
+ *
+ * Since a valid numeral has at most 16 symbols and there are 8 ranks, the ranks also fit 4 bits each in a
+ * long, giving a key that can be stored and compared as one unsigned number.
+ *
+ * @version 10/18/26
+ */
+public final class ElbonianOrder {
+
+    //Orders valid Elbonian numerals by value
+    public static final Comparator<CharSequence> COMPARATOR = ElbonianOrder::compare;
+
+    //Longest numeral a key can hold
+    public static final int MAX_KEY_LENGTH = 16;
+
+    private ElbonianOrder() {
+    }
+
+    /**
+     * Compares two valid Elbonian numerals by value.
+     *
+     * @param a A numeral
+     * @param b Another numeral
+     * @return A negative number, zero or a positive number as a is worth less than, as much as or more than b
+     * @throws IllegalArgumentException Thrown if a character is not an Elbonian symbol.
+     */
+    public static int compare(CharSequence a, CharSequence b) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            int difference = rank(a.charAt(i)) - rank(b.charAt(i));
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    /**
+     * Returns an order preserving key for a valid Elbonian numeral: for two numerals a and b,
+     * Long.compareUnsigned(key(a), key(b)) has the sign of compare(a, b).
+     *
+     * @param numeral A numeral of at most MAX_KEY_LENGTH symbols
+     * @return The key
+     * @throws IllegalArgumentException Thrown if the numeral is too long or a character is not an Elbonian symbol.
+     */
+    public static long key(CharSequence numeral) {
+        if (numeral.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("\"" + numeral + "\" is longer than " + MAX_KEY_LENGTH + " symbols");
+        }
+        long key = 0;
+        for (int i = 0; i < numeral.length(); i++) {
+            key |= (long) rank(numeral.charAt(i)) << (60 - 4 * i);
+        }
+        return key;
+    }
+
+    //Ranks a symbol from 1 for I to 8 for N
+    private static int rank(char c) {
+        int symbol = ElbonianTable.symbolIndex(c);
+        if (symbol < 0) {
+            throw new IllegalArgumentException("'" + c + "' is not an Elbonian symbol");
+        }
+        return ElbonianTable.SYMBOLS.length - symbol;
+    }
+
+}
@@ -0,0 +1,375 @@
+package converter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Converts large arrays and files on several threads. The input is split at element or line boundaries into
+ * RecursiveTask chunks that run on a ForkJoinPool; each chunk is converted with the same code as
+ * ElbonianBatchConverter and ElbonianFileConverter, and the results are put back together in input order.
+ * Errors are reported exactly as the sequential converters report them, whatever the number of threads.
+ *
+ * Arrays are split until a chunk holds at most threshold elements. Files are cut into chunks of about
+ * chunkSize bytes, each ending at a line break. A chunk is converted straight into direct buffers that the
+ * writer hands to the output file and then returns for reuse, along with the file converters, so converting
+ * files allocates little once the first call has warmed the converter up.
+ *
+ * @version 10/18/26
+ */
+public class ElbonianParallelConverter {
+
+    //Default number of array elements below which a chunk is converted on one thread
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    //Default number of file bytes per chunk
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int chunkSize;
+
+    //Output buffers and file converters that are not in use, kept for the next chunk
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final Queue<ElbonianFileConverter> converters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a converter that runs on the common pool with the default threshold and chunk size.
+     */
+    public ElbonianParallelConverter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a converter.
+     *
+     * @param pool The pool the chunks run on
+     * @param threshold The number of array elements below which a chunk is not split any further. It is rounded
+     * up to a multiple of 64 so that every chunk owns whole words of the error bitmap.
+     * @param chunkSize The approximate number of file bytes converted by one chunk
+     */
+    public ElbonianParallelConverter(ForkJoinPool pool, int threshold, int chunkSize) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.pool = pool;
+        this.threshold = (threshold + 63) & ~63;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Converts Arabic values to Elbonian numerals packed into a char array, like
+     * ElbonianBatchConverter.toElbonian().
+     *
+     * @param values The values to convert
+     * @param out The array the numerals are written to, starting at index 0
+     * @param offsets Receives the start of each numeral in out, plus the end of the last one; must hold at least
+     * values.length + 1 entries
+     * @param errors Bit i is set if values[i] cannot be represented in Elbonian and cleared otherwise
+     * @return The number of values that could not be converted
+     */
+    public int toElbonian(int[] values, char[] out, int[] offsets, BitSet errors) {
+        int count = values.length;
+        long[] words = new long[(count + 63) >>> 6];
+        //Measure every numeral, turn the lengths into offsets, then copy the numerals into place
+        int failed = pool.invoke(new Slice(0, count, threshold, (from, to) -> {
+            int failures = 0;
+            for (int i = from; i < to; i++) {
+                int value = values[i];
+                if (value < 1 || value > ElbonianTable.MAX_VALUE) {
+                    offsets[i + 1] = 0;
+                    words[i >>> 6] |= 1L << i;
+                    failures++;
+                } else {
+                    offsets[i + 1] = ElbonianTable.elbonian(value).length();
+                }
+            }
+            return failures;
+        }));
+        offsets[0] = 0;
+        pool.invoke(ForkJoinTask.adapt(() -> Arrays.parallelPrefix(offsets, 0, count + 1, Integer::sum)));
+        pool.invoke(new Slice(0, count, threshold, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (offsets[i + 1] != offsets[i]) {
+                    String numeral = ElbonianTable.elbonian(values[i]);
+                    numeral.getChars(0, numeral.length(), out, offsets[i]);
+                }
+            }
+            return 0;
+        }));
+        setErrors(errors, words, count);
+        return failed;
+    }
+
+    /**
+     * Converts packed Elbonian numerals to Arabic values, like ElbonianBatchConverter.toArabic().
+     *
+     * @param text The packed numerals. It is read from several threads at once.
+     * @param offsets The start of each numeral, plus the end of the last one
+     * @param count The number of numerals to convert
+     * @param out Receives the value of each numeral, or 0 for numerals that are not valid
+     * @param errors Bit i is set if numeral i is not a valid Elbonian numeral and cleared otherwise
+     * @return The number of numerals that could not be converted
+     */
+    public int toArabic(CharSequence text, int[] offsets, int count, int[] out, BitSet errors) {
+        long[] words = new long[(count + 63) >>> 6];
+        int failed = pool.invoke(new Slice(0, count, threshold, (from, to) -> {
+            int failures = 0;
+            for (int i = from; i < to; i++) {
+                int value = ElbonianTable.arabic(text, offsets[i], offsets[i + 1]);
+                if (value < 0) {
+                    out[i] = 0;
+                    words[i >>> 6] |= 1L << i;
+                    failures++;
+                } else {
+                    out[i] = value;
+                }
+            }
+            return failures;
+        }));
+        setErrors(errors, words, count);
+        return failed;
+    }
+
+    /**
+     * Converts every line of a file, like ElbonianFileConverter.convert(). The output and the errors file are
+     * identical to the ones the sequential converter writes.
+     *
+     * @param input The file to convert
+     * @param output The file the converted lines are written to; it is replaced if it exists
+     * @param errors The file malformed lines are reported in; it is replaced if it exists
+     * @return The number of lines that could not be converted
+     * @throws IOException Thrown if one of the files cannot be read or written.
+     */
+    public long convert(Path input, Path output, Path errors) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+             BufferedWriter errorWriter = Files.newBufferedWriter(errors, StandardCharsets.UTF_8)) {
+            long[] bounds = chunkBounds(in);
+            int chunks = bounds.length - 1;
+
+            //Count the lines of every chunk so each one knows the number of its first line
+            long[] firstLines = new long[chunks + 1];
+            pool.invoke(new Slice(0, chunks, 1, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    firstLines[i + 1] = countLines(in, bounds[i], bounds[i + 1]);
+                }
+                return 0;
+            }));
+            for (int i = 1; i <= chunks; i++) {
+                firstLines[i] += firstLines[i - 1];
+            }
+
+            //Keep a few chunks ahead of the writer so memory stays bounded
+            int ahead = pool.getParallelism() * 2;
+            ArrayDeque<ForkJoinTask<Chunk>> running = new ArrayDeque<>();
+            try {
+                long failed = 0;
+                int next = 0;
+                while (next < chunks || !running.isEmpty()) {
+                    while (next < chunks && running.size() < ahead) {
+                        running.add(pool.submit(new ChunkTask(in, bounds[next], bounds[next + 1], firstLines[next])));
+                        next++;
+                    }
+                    Chunk chunk = running.poll().join();
+                    for (ByteBuffer converted : chunk.output) {
+                        while (converted.hasRemaining()) {
+                            out.write(converted);
+                        }
+                        buffers.add(converted.clear());
+                    }
+                    errorWriter.write(chunk.errors.toString());
+                    failed += chunk.failed;
+                }
+                return failed;
+            } finally {
+                //Only left after a failure; the chunks not yet converted are no longer wanted
+                for (ForkJoinTask<Chunk> task : running) {
+                    task.cancel(false);
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    //Splits a file into chunks of about chunkSize bytes, each ending just after a line break
+    private long[] chunkBounds(FileChannel in) throws IOException {
+        long size = in.size();
+        long[] bounds = new long[16];
+        int chunks = 0;
+        long position = 0;
+        ByteBuffer scan = ByteBuffer.allocate(4096);
+        while (position < size) {
+            //Move the end of the chunk just past the next line break
+            long end = Math.min(size, position + chunkSize);
+            while (end < size) {
+                scan.clear();
+                int read = in.read(scan, end - 1);
+                int i = 0;
+                while (i < read && scan.get(i) != '\n') {
+                    i++;
+                }
+                if (i < read) {
+                    end += i;
+                    break;
+                }
+                end += read;
+            }
+            end = Math.min(end, size);
+            if (chunks + 1 == bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            bounds[++chunks] = end;
+            position = end;
+        }
+        return Arrays.copyOf(bounds, chunks + 1);
+    }
+
+    //Counts the line breaks between two positions of a file
+    private static long countLines(FileChannel in, long start, long end) {
+        try {
+            long lines = 0;
+            for (long position = start; position < end; ) {
+                int length = (int) Math.min(ElbonianFileConverter.DEFAULT_WINDOW_SIZE, end - position);
+                ByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+                for (int i = 0; i < length; i++) {
+                    if (window.get(i) == '\n') {
+                        lines++;
+                    }
+                }
+                position += length;
+            }
+            return lines;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //Copies the error bits of the first count elements into errors
+    private static void setErrors(BitSet errors, long[] words, int count) {
+        errors.clear(0, count);
+        errors.or(BitSet.valueOf(words));
+    }
+
+    //Converts the elements from one index to another on the current thread and returns the number of failures
+    private interface Leaf {
+        int convert(int from, int to);
+    }
+
+    /**
+     * A range of element indexes that is split in half until it holds no more than limit elements. Split
+     * points are multiples of 64 so that two chunks never write the same word of an error bitmap.
+     */
+    private static final class Slice extends RecursiveTask<Integer> {
+
+        private final int from;
+        private final int to;
+        private final int limit;
+        private final Leaf leaf;
+
+        Slice(int from, int to, int limit, Leaf leaf) {
+            this.from = from;
+            this.to = to;
+            this.limit = limit;
+            this.leaf = leaf;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= limit) {
+                return leaf.convert(from, to);
+            }
+            int half = (to - from) >>> 1;
+            if (limit >= 64) {
+                //A slice of 65 to 127 elements rounds its half down to 0; split off one word instead, which
+                //leaves the other half non-empty since the slice is larger than limit
+                half = Math.max(half & ~63, 64);
+            }
+            int middle = from + half;
+            Slice left = new Slice(from, middle, limit, leaf);
+            left.fork();
+            int failed = new Slice(middle, to, limit, leaf).compute();
+            return failed + left.join();
+        }
+    }
+
+    //Takes an output buffer that is not in use, or allocates one
+    private ByteBuffer buffer() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(ElbonianFileConverter.DEFAULT_BUFFER_SIZE);
+    }
+
+    //The converted form of one chunk of a file, collected in the buffers it was converted into
+    private final class Chunk implements ElbonianFileConverter.Output {
+        final List<ByteBuffer> output = new ArrayList<>();
+        final StringWriter errors = new StringWriter();
+        long failed;
+
+        @Override
+        public ByteBuffer next(ByteBuffer full) {
+            output.add(full);
+            return buffer();
+        }
+
+        @Override
+        public void last(ByteBuffer full) {
+            output.add(full);
+        }
+    }
+
+    //Converts one chunk of a file with an ElbonianFileConverter no other chunk is using
+    private final class ChunkTask extends RecursiveTask<Chunk> {
+
+        private final FileChannel in;
+        private final long start;
+        private final long end;
+        private final long firstLine;
+
+        ChunkTask(FileChannel in, long start, long end, long firstLine) {
+            this.in = in;
+            this.start = start;
+            this.end = end;
+            this.firstLine = firstLine;
+        }
+
+        @Override
+        protected Chunk compute() {
+            Chunk chunk = new Chunk();
+            ElbonianFileConverter converter = converters.poll();
+            if (converter == null) {
+                converter = new ElbonianFileConverter();
+            }
+            try {
+                chunk.failed = converter.convert(in, start, end, firstLine, buffer(), chunk, chunk.errors);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                converters.add(converter);
+            }
+            return chunk;
+        }
+    }
+
+}
@@ -0,0 +1,222 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe, size bounded cache in front of ElbonianNumber.parse(). It remembers the result for each raw
+ * input String exactly as it was received, including inputs that were rejected, so a String seen before is
+ * answered (or rejected) without parsing it again.
+ *
+ * The cache is split into stripes. Each stripe holds a fixed number of entries and evicts with the CLOCK
+ * algorithm: every entry has a referenced bit that is set when it is read, and the clock hand clears bits as
+ * it sweeps until it finds an entry that was not read since its last pass. Lookups take no lock; they read a
+ * ConcurrentHashMap and set the referenced bit with a plain write, so a hot input is served by many threads
+ * at once. Only inserting and evicting take the stripe's lock.
+ * Inputs longer than MAX_KEY_LENGTH are never cached, so a flood of long garbage cannot fill the heap.
+ *
+ * @version 10/18/26
+ */
+public class ElbonianParseCache {
+
+    //Longest input that is cached; anything longer is parsed every time
+    public static final int MAX_KEY_LENGTH = 32;
+
+    private final Stripe[] stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity The largest number of inputs the cache remembers
+     */
+    public ElbonianParseCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        //About four stripes per processor, but never stripes of fewer than 16 entries
+        int count = Integer.highestOneBit(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, capacity / 16)));
+        stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(capacity / count + (i < capacity % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * Parses a number like ElbonianNumber.parse(), using the cached result if this exact String was parsed before.
+     *
+     * @param raw The number to parse
+     * @return The cached ElbonianNumber for the value
+     * @throws MalformedNumberException Thrown if the number is not a well formed Arabic or Elbonian number.
+     * @throws ValueOutOfBoundsException Thrown if the number is Arabic and cannot be represented in the Elbonian
+     * number system.
+     */
+    public ElbonianNumber parse(String raw) throws MalformedNumberException, ValueOutOfBoundsException {
+        if (raw.length() > MAX_KEY_LENGTH) {
+            misses.increment();
+            return ElbonianNumber.parse(raw);
+        }
+
+        Stripe stripe = stripes[spread(raw.hashCode()) & (stripes.length - 1)];
+        Object result = stripe.get(raw);
+        if (result != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            long parsed = ElbonianNumber.tryParse(raw);
+            if (ParseResult.isSuccess(parsed)) {
+                result = ElbonianNumber.valueOf(ParseResult.value(parsed));
+            } else {
+                result = new Failure(ParseResult.isOutOfBounds(parsed), ParseResult.message(parsed, raw));
+            }
+            if (stripe.put(raw, result)) {
+                evictions.increment();
+            }
+        }
+
+        if (result instanceof Failure) {
+            Failure failure = (Failure) result;
+            //A cached rejection is answered as cheaply as a hit, so its exception skips the stack trace
+            if (failure.outOfBounds) {
+                throw new ValueOutOfBoundsException(failure.message, false);
+            }
+            throw new MalformedNumberException(failure.message, false);
+        }
+        return (ElbonianNumber) result;
+    }
+
+    /**
+     * Returns the number of calls to parse() answered from the cache.
+     *
+     * @return The hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of calls to parse() that had to parse their input.
+     *
+     * @return The miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries that were dropped to make room for new ones.
+     *
+     * @return The eviction count
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of inputs currently cached.
+     *
+     * @return The number of entries
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "ElbonianParseCache[size=" + size() + ", hits=" + hits() + ", misses=" + misses()
+                + ", evictions=" + evictions() + "]";
+    }
+
+    //Mixes the high bits of a hash code into the low bits used to pick a stripe
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    //A rejected input, remembered so the same exception can be thrown again
+    private static final class Failure {
+
+        final boolean outOfBounds;
+        final String message;
+
+        Failure(boolean outOfBounds, String message) {
+            this.outOfBounds = outOfBounds;
+            this.message = message;
+        }
+    }
+
+    //A cached input with its result and CLOCK referenced bit
+    private static final class Entry {
+
+        final String key;
+        final Object result;
+        //Written without synchronization; a lost update only costs an entry one extra sweep of the hand
+        boolean referenced;
+
+        Entry(String key, Object result) {
+            this.key = key;
+            this.result = result;
+        }
+    }
+
+    //A fixed size part of the cache with its own clock hand; the lock is only taken to insert and evict
+    private static final class Stripe {
+
+        private final Entry[] clock;
+        private final ConcurrentHashMap<String, Entry> entries;
+        private int size;
+        private int hand;
+
+        Stripe(int capacity) {
+            clock = new Entry[capacity];
+            entries = new ConcurrentHashMap<>(capacity * 2);
+        }
+
+        Object get(String key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            //Only write the bit when it changes, so a hot entry's cache line stays shared between readers
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.result;
+        }
+
+        //Stores a result and returns true if another entry had to be evicted for it
+        synchronized boolean put(String key, Object result) {
+            if (clock.length == 0 || entries.containsKey(key)) {
+                return false;
+            }
+            Entry entry = new Entry(key, result);
+            if (size < clock.length) {
+                clock[size++] = entry;
+                entries.put(key, entry);
+                return false;
+            }
+            while (clock[hand].referenced) {
+                clock[hand].referenced = false;
+                hand = (hand + 1) % clock.length;
+            }
+            entries.remove(clock[hand].key);
+            clock[hand] = entry;
+            entries.put(key, entry);
+            hand = (hand + 1) % clock.length;
+            return true;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+
+}
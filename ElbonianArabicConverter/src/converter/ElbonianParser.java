@@ -0,0 +1,331 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A single pass scanner for the numbers accepted by the ElbonianArabicConverter constructor. It skips
+ * leading and trailing spaces, decides from the first character whether the number is Arabic or Elbonian,
+ * checks every rule of that form and computes the value, all in one left to right pass without regular
+ * expressions or intermediate Strings.
+ *
+ * An Elbonian numeral is read with a small state machine. The state packs the value read so far together
+ * with the last symbol seen and how many times in a row it appeared, which is enough to enforce the symbol
+ * order, the repetition limits (N{0,3}M{0,2}D{0,3}C{0,2}Y{0,3}X{0,2}J{0,3}I{0,2}) and the N/M, D/C, Y/X and
+ * J/I combination rules.
+ *
+ * Errors are returned as ParseResult codes rather than thrown, so rejecting garbage costs no more than
+ * accepting a number; parse() builds the message and the exception only for callers that want one. ASCII
+ * bytes in an array or a ByteBuffer have a scanner of their own, so they are read directly rather than
+ * through a CharSequence view.
+ *
+ * @version 10/18/26
+ */
+final class ElbonianParser {
+
+    //Error codes returned by step(); every valid state is zero or positive
+    static final int ORDER_ERROR = -1;
+    static final int REPEAT_ERROR = -2;
+    static final int COMBINATION_ERROR = -3;
+
+    //The state before any symbol has been read
+    static final int START = 0;
+
+    //Layout of a state: | value | last symbol + 1 (4 bits) | run length (2 bits) |
+    private static final int RUN_BITS = 2;
+    private static final int SYMBOL_BITS = 4;
+    private static final int VALUE_SHIFT = RUN_BITS + SYMBOL_BITS;
+
+    private ElbonianParser() {
+    }
+
+    /**
+     * Reads one more symbol of an Elbonian numeral.
+     *
+     * @param state The state after the previous symbol, or START
+     * @param symbol The index of the symbol in ElbonianTable.SYMBOLS
+     * @return The new state, or one of the negative error codes if the symbol cannot appear here
+     */
+    static int step(int state, int symbol) {
+        int last = lastSymbol(state);
+        int run = state & ((1 << RUN_BITS) - 1);
+        if (symbol < last) {
+            return ORDER_ERROR;
+        }
+        if (symbol == last) {
+            //N, D, Y and J (even indexes) may appear three times, M, C, X and I only twice
+            if (run == ((symbol & 1) == 0 ? 3 : 2)) {
+                return REPEAT_ERROR;
+            }
+            run++;
+        } else {
+            //Three of a group's larger symbol already make 9, so the smaller symbol may not follow
+            if ((symbol & 1) == 1 && last == symbol - 1 && run == 3) {
+                return COMBINATION_ERROR;
+            }
+            run = 1;
+        }
+        int value = value(state) + ElbonianTable.WEIGHTS[symbol];
+        return (value << VALUE_SHIFT) | ((symbol + 1) << RUN_BITS) | run;
+    }
+
+    /**
+     * Returns the value of the numeral read so far.
+     *
+     * @param state A state returned by step()
+     * @return The value
+     */
+    static int value(int state) {
+        return state >>> VALUE_SHIFT;
+    }
+
+    /**
+     * Returns the index of the last symbol read.
+     *
+     * @param state A state returned by step()
+     * @return The symbol index, or -1 if no symbol has been read
+     */
+    static int lastSymbol(int state) {
+        return ((state >>> RUN_BITS) & ((1 << SYMBOL_BITS) - 1)) - 1;
+    }
+
+    /**
+     * Parses a String the way the ElbonianArabicConverter constructor does. This is a thin wrapper around
+     * tryParse() that turns a rejected result into an exception.
+     *
+     * @param number The characters to parse
+     * @param from The index of the first character to parse
+     * @param to The index after the last character to parse
+     * @return The value of the number
+     * @throws MalformedNumberException Thrown if the characters are not a well formed Arabic or Elbonian number.
+     * @throws ValueOutOfBoundsException Thrown if the number is Arabic and cannot be represented in the Elbonian
+     * number system.
+     */
+    static int parse(CharSequence number, int from, int to) throws MalformedNumberException, ValueOutOfBoundsException {
+        long result = tryParse(number, from, to);
+        if (result < 0) {
+            fail(number, result, true);
+        }
+        return (int) result;
+    }
+
+    /**
+     * Throws the exception parse() throws for a rejected result.
+     *
+     * @param number The characters that were parsed
+     * @param result A rejected result returned by tryParse()
+     * @param stackTrace False to skip filling in the stack trace, which is most of the cost of the exception
+     * @throws MalformedNumberException Thrown if the number was malformed.
+     * @throws ValueOutOfBoundsException Thrown if the number was out of bounds.
+     */
+    static void fail(CharSequence number, long result, boolean stackTrace)
+            throws MalformedNumberException, ValueOutOfBoundsException {
+        String message = ParseResult.message(result, number);
+        if (ParseResult.isOutOfBounds(result)) {
+            throw new ValueOutOfBoundsException(message, stackTrace);
+        }
+        throw new MalformedNumberException(message, stackTrace);
+    }
+
+    /**
+     * Parses a String the way the ElbonianArabicConverter constructor does, without throwing or allocating
+     * anything when the number is rejected.
+     *
+     * @param number The characters to parse
+     * @param from The index of the first character to parse
+     * @param to The index after the last character to parse
+     * @return The value of the number, or a negative result describing the error; see ParseResult
+     */
+    static long tryParse(CharSequence number, int from, int to) {
+        int start = from;
+        while (start < to && number.charAt(start) == ' ') {
+            start++;
+        }
+        int end = to;
+        while (end > start && number.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (start == end) {
+            return ParseResult.failure(ParseResult.NO_NUMBER, from, -1);
+        }
+
+        char first = number.charAt(start);
+        if (first == '-' || (first >= '0' && first <= '9')) {
+            return parseArabic(number, start, end);
+        }
+        return parseElbonian(number, start, end);
+    }
+
+    /**
+     * Parses ASCII bytes like tryParse(CharSequence, int, int).
+     *
+     * @param number The bytes to parse
+     * @param from The index of the first byte to parse
+     * @param to The index after the last byte to parse
+     * @return The value of the number, or a negative result describing the error; see ParseResult
+     */
+    static long tryParse(byte[] number, int from, int to) {
+        return tryParseAscii(number, null, from, to);
+    }
+
+    /**
+     * Parses ASCII bytes like tryParse(CharSequence, int, int). The buffer's position and limit are not used.
+     *
+     * @param number The buffer holding the bytes to parse
+     * @param from The absolute index of the first byte to parse
+     * @param to The absolute index after the last byte to parse
+     * @return The value of the number, or a negative result describing the error; see ParseResult
+     */
+    static long tryParse(ByteBuffer number, int from, int to) {
+        return tryParseAscii(null, number, from, to);
+    }
+
+    //The byte version of tryParse(), reading from array if it is not null and from buffer otherwise
+    private static long tryParseAscii(byte[] array, ByteBuffer buffer, int from, int to) {
+        int start = from;
+        while (start < to && byteAt(array, buffer, start) == ' ') {
+            start++;
+        }
+        int end = to;
+        while (end > start && byteAt(array, buffer, end - 1) == ' ') {
+            end--;
+        }
+        if (start == end) {
+            return ParseResult.failure(ParseResult.NO_NUMBER, from, -1);
+        }
+
+        int first = byteAt(array, buffer, start);
+        if (first == '-' || (first >= '0' && first <= '9')) {
+            boolean negative = first == '-';
+            int i = negative ? start + 1 : start;
+            if (i == end) {
+                return ParseResult.failure(ParseResult.MISSING_DIGIT, start, -1);
+            }
+            if (byteAt(array, buffer, i) == '0' && i + 1 < end) {
+                return ParseResult.failure(ParseResult.LEADING_ZERO, i, -1);
+            }
+            int value = 0;
+            for (; i < end; i++) {
+                int c = byteAt(array, buffer, i);
+                if (c < '0' || c > '9') {
+                    return ParseResult.failure(ParseResult.NOT_A_DIGIT, i, -1);
+                }
+                if (value <= ElbonianTable.MAX_VALUE) {
+                    value = value * 10 + (c - '0');
+                }
+            }
+            return arabicResult(value, negative, start);
+        }
+
+        int state = START;
+        for (int i = start; i < end; i++) {
+            int symbol = ElbonianTable.symbolIndex((char) byteAt(array, buffer, i));
+            if (symbol < 0) {
+                return ParseResult.failure(ParseResult.NOT_A_SYMBOL, i, -1);
+            }
+            int next = step(state, symbol);
+            if (next < 0) {
+                return ParseResult.failure(resultCode(next), i, lastSymbol(state));
+            }
+            state = next;
+        }
+        return value(state);
+    }
+
+    //Reads one byte as an unsigned value
+    private static int byteAt(byte[] array, ByteBuffer buffer, int index) {
+        return (array != null ? array[index] : buffer.get(index)) & 0xFF;
+    }
+
+    //Reads an optional minus sign followed by digits
+    private static long parseArabic(CharSequence number, int start, int end) {
+        boolean negative = number.charAt(start) == '-';
+        int i = negative ? start + 1 : start;
+        if (i == end) {
+            return ParseResult.failure(ParseResult.MISSING_DIGIT, start, -1);
+        }
+        if (number.charAt(i) == '0' && i + 1 < end) {
+            return ParseResult.failure(ParseResult.LEADING_ZERO, i, -1);
+        }
+
+        int value = 0;
+        for (; i < end; i++) {
+            char c = number.charAt(i);
+            if (c < '0' || c > '9') {
+                return ParseResult.failure(ParseResult.NOT_A_DIGIT, i, -1);
+            }
+            //Stop growing once the value is out of bounds so very long inputs cannot overflow
+            if (value <= ElbonianTable.MAX_VALUE) {
+                value = value * 10 + (c - '0');
+            }
+        }
+
+        return arabicResult(value, negative, start);
+    }
+
+    //Checks the bounds of the digits of an Arabic number starting at start
+    private static long arabicResult(int value, boolean negative, int start) {
+        if (negative && value != 0) {
+            return ParseResult.failure(ParseResult.NEGATIVE, start, -1);
+        }
+        if (value == 0) {
+            return ParseResult.failure(ParseResult.ZERO, start, -1);
+        }
+        if (value > ElbonianTable.MAX_VALUE) {
+            return ParseResult.failure(ParseResult.TOO_LARGE, start, -1);
+        }
+        return value;
+    }
+
+    //Runs the state machine over the symbols of an Elbonian numeral
+    private static long parseElbonian(CharSequence number, int start, int end) {
+        int state = START;
+        for (int i = start; i < end; i++) {
+            int symbol = ElbonianTable.symbolIndex(number.charAt(i));
+            if (symbol < 0) {
+                return ParseResult.failure(ParseResult.NOT_A_SYMBOL, i, -1);
+            }
+            int next = step(state, symbol);
+            if (next < 0) {
+                return ParseResult.failure(resultCode(next), i, lastSymbol(state));
+            }
+            state = next;
+        }
+        return value(state);
+    }
+
+    /**
+     * Returns the ParseResult error code for an error code returned by step().
+     *
+     * @param error ORDER_ERROR, REPEAT_ERROR or COMBINATION_ERROR
+     * @return WRONG_ORDER, TOO_MANY_REPEATS or INVALID_COMBINATION
+     */
+    static int resultCode(int error) {
+        return ParseResult.WRONG_ORDER - 1 - error;
+    }
+
+    /**
+     * Builds the message for an error code returned by step().
+     *
+     * @param error The error code
+     * @param lastSymbol The index of the symbol before the offending one
+     * @param c The offending symbol
+     * @param index The index of the offending symbol
+     * @return A description of the error
+     */
+    static String describe(int error, int lastSymbol, char c, int index) {
+        char last = ElbonianTable.SYMBOLS[lastSymbol];
+        switch (error) {
+            case ORDER_ERROR:
+                return "'" + c + "' at index " + index + " cannot come after '" + last + "'.";
+            case REPEAT_ERROR:
+                return "Too many '" + c + "' at index " + index + "; at most "
+                        + ((ElbonianTable.symbolIndex(c) & 1) == 0 ? 3 : 2) + " are allowed in a row.";
+            default:
+                return "'" + c + "' at index " + index + " cannot follow three '" + last + "'.";
+        }
+    }
+
+}
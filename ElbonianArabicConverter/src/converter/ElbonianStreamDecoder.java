@@ -0,0 +1,292 @@
+package converter;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * A push style decoder for a stream of numbers separated by delimiters, for input that arrives in chunks
+ * which may split a number anywhere. Chunks of bytes (read as ASCII) or characters are pushed in with
+ * accept(), and every number is passed to the Sink as soon as the delimiter after it arrives; finish() ends
+ * the last number if the stream does not end with a delimiter.
+ *
+ * Each number follows the rules of the ElbonianArabicConverter constructor: leading and trailing spaces are
+ * allowed, and it is either an Arabic number between 1 and 9999 or an Elbonian numeral, checked with the same
+ * state machine as ElbonianParser. Nothing is buffered: the decoder only keeps the state of the number it is
+ * in the middle of, so a number split over any number of chunks costs no copying. Blank entries, such as the
+ * '\r' of a "\r\n" line break when both characters are delimiters, are skipped rather than rejected.
+ *
+ * Rejected numbers are reported to the Sink with a ParseResult error code and the position in the stream of
+ * the character that caused the error, and the decoder skips to the next delimiter. A decoder is not thread
+ * safe.
+ *
+ * @version 10/18/26
+ */
+public final class ElbonianStreamDecoder {
+
+    /**
+     * Receives what the decoder reads.
+     */
+    public interface Sink {
+
+        /**
+         * Called for every valid number.
+         *
+         * @param value The value of the number
+         */
+        void value(int value);
+
+        /**
+         * Called for every rejected number.
+         *
+         * @param error One of the ParseResult error codes
+         * @param position The position in the stream of the character that caused the error, or of the start of
+         *                 the number if it is out of bounds
+         */
+        void rejected(int error, long position);
+    }
+
+    //Delimiters used by the one argument constructor
+    public static final String DEFAULT_DELIMITERS = "\n\r,";
+
+    //What the decoder is in the middle of
+    private static final int BETWEEN = 0;
+    private static final int ARABIC = 1;
+    private static final int ELBONIAN = 2;
+    private static final int SKIPPING = 3;
+
+    private final boolean[] delimiter = new boolean[128];
+    private final Sink sink;
+
+    private long position;
+    private int mode = BETWEEN;
+    private long start;
+    //The Arabic value or the ElbonianParser state read so far
+    private int state;
+    private boolean negative;
+    private int digits;
+    //Set when the first digit is a zero, which nothing may follow
+    private boolean leadingZero;
+    //The position of the first space after the number started, or -1
+    private long space = -1;
+
+    /**
+     * Creates a decoder for numbers separated by line breaks or commas.
+     *
+     * @param sink Receives the numbers
+     */
+    public ElbonianStreamDecoder(Sink sink) {
+        this(DEFAULT_DELIMITERS, sink);
+    }
+
+    /**
+     * Creates a decoder.
+     *
+     * @param delimiters The ASCII characters that separate numbers; they cannot be spaces or characters that
+     *                   may appear in a number
+     * @param sink Receives the numbers
+     */
+    public ElbonianStreamDecoder(String delimiters, Sink sink) {
+        for (int i = 0; i < delimiters.length(); i++) {
+            char c = delimiters.charAt(i);
+            if (c >= 128 || c == ' ' || c == '-' || (c >= '0' && c <= '9') || ElbonianTable.symbolIndex(c) >= 0) {
+                throw new IllegalArgumentException("'" + c + "' cannot be a delimiter");
+            }
+            delimiter[c] = true;
+        }
+        this.sink = sink;
+    }
+
+    /**
+     * Reads every remaining byte of a buffer, moving its position to its limit.
+     *
+     * @param chunk The bytes to read
+     */
+    public void accept(ByteBuffer chunk) {
+        while (chunk.hasRemaining()) {
+            next((char) (chunk.get() & 0xFF));
+        }
+    }
+
+    /**
+     * Reads part of a byte array.
+     *
+     * @param chunk The bytes to read
+     * @param offset The index of the first byte
+     * @param length The number of bytes
+     */
+    public void accept(byte[] chunk, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            next((char) (chunk[i] & 0xFF));
+        }
+    }
+
+    /**
+     * Reads every remaining character of a buffer, moving its position to its limit.
+     *
+     * @param chunk The characters to read
+     */
+    public void accept(CharBuffer chunk) {
+        while (chunk.hasRemaining()) {
+            next(chunk.get());
+        }
+    }
+
+    /**
+     * Reads a sequence of characters.
+     *
+     * @param chunk The characters to read
+     */
+    public void accept(CharSequence chunk) {
+        for (int i = 0; i < chunk.length(); i++) {
+            next(chunk.charAt(i));
+        }
+    }
+
+    /**
+     * Ends the number being read, as if a delimiter had arrived. The decoder can be used again afterwards, and
+     * positions keep counting from where they were.
+     */
+    public void finish() {
+        end();
+    }
+
+    /**
+     * Returns the number of characters read so far, which is the position of the next one.
+     *
+     * @return The position in the stream
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Returns the position of the first character, after any leading spaces, of the number being read. Called
+     * from the Sink, it is where the number just passed in starts, which can serve as a pointer to its record.
+     *
+     * @return The position in the stream
+     */
+    public long start() {
+        return start;
+    }
+
+    //Reads one character
+    private void next(char c) {
+        long at = position++;
+        if (c < 128 && delimiter[c]) {
+            end();
+            return;
+        }
+        switch (mode) {
+            case BETWEEN:
+                if (c != ' ') {
+                    begin(c, at);
+                }
+                break;
+            case ARABIC:
+                arabic(c, at);
+                break;
+            case ELBONIAN:
+                elbonian(c, at);
+                break;
+            default:
+                break;
+        }
+    }
+
+    //Starts a number with its first character other than a space
+    private void begin(char c, long at) {
+        start = at;
+        space = -1;
+        if (c == '-' || (c >= '0' && c <= '9')) {
+            mode = ARABIC;
+            state = 0;
+            negative = c == '-';
+            digits = 0;
+            leadingZero = false;
+            if (!negative) {
+                arabic(c, at);
+            }
+        } else {
+            mode = ELBONIAN;
+            state = ElbonianParser.START;
+            elbonian(c, at);
+        }
+    }
+
+    //Reads a character of an Arabic number after the first one, or its first digit
+    private void arabic(char c, long at) {
+        if (c == ' ') {
+            if (space < 0) {
+                space = at;
+            }
+            return;
+        }
+        if (leadingZero) {
+            reject(ParseResult.LEADING_ZERO, negative ? start + 1 : start);
+            return;
+        }
+        if (space >= 0 || c < '0' || c > '9') {
+            reject(ParseResult.NOT_A_DIGIT, space >= 0 ? space : at);
+            return;
+        }
+        leadingZero = digits == 0 && c == '0';
+        digits++;
+        //Stop growing once the value is out of bounds so very long inputs cannot overflow
+        if (state <= ElbonianTable.MAX_VALUE) {
+            state = state * 10 + (c - '0');
+        }
+    }
+
+    //Reads a symbol of an Elbonian numeral
+    private void elbonian(char c, long at) {
+        if (c == ' ') {
+            if (space < 0) {
+                space = at;
+            }
+            return;
+        }
+        int symbol = ElbonianTable.symbolIndex(c);
+        if (space >= 0 || symbol < 0) {
+            reject(ParseResult.NOT_A_SYMBOL, space >= 0 ? space : at);
+            return;
+        }
+        int next = ElbonianParser.step(state, symbol);
+        if (next < 0) {
+            reject(ElbonianParser.resultCode(next), at);
+            return;
+        }
+        state = next;
+    }
+
+    //Ends the number being read at a delimiter
+    private void end() {
+        switch (mode) {
+            case ARABIC:
+                if (digits == 0) {
+                    sink.rejected(ParseResult.MISSING_DIGIT, start);
+                } else if (negative && state != 0) {
+                    sink.rejected(ParseResult.NEGATIVE, start);
+                } else if (state == 0) {
+                    sink.rejected(ParseResult.ZERO, start);
+                } else if (state > ElbonianTable.MAX_VALUE) {
+                    sink.rejected(ParseResult.TOO_LARGE, start);
+                } else {
+                    sink.value(state);
+                }
+                break;
+            case ELBONIAN:
+                sink.value(ElbonianParser.value(state));
+                break;
+            default:
+                break;
+        }
+        mode = BETWEEN;
+    }
+
+    //Reports the number being read and skips the rest of it
+    private void reject(int error, long at) {
+        sink.rejected(error, at);
+        mode = SKIPPING;
+    }
+
+}
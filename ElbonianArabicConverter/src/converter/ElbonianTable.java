@@ -0,0 +1,166 @@
+package converter;
+
+/**
+ * Precomputed conversion tables for the whole Elbonian domain (1 - 9999). The tables are built once, the
+ * first time they are needed, and after that both conversion directions are a single lookup that does not
+ * allocate.
+ *
+ * The reverse index is a trie over the 8 letter alphabet. Every prefix of a valid Elbonian numeral is itself
+ * a valid numeral, and every value has exactly one valid spelling, so the trie node reached after reading a
+ * prefix is simply the value of that prefix. The trie is therefore stored as one byte per value holding the
+ * set of symbols that may follow it.
+ *
+ * The Gradle build generates both tables into the ElbonianTableData class, whose String constants are
+ * cheaper to copy at startup than computing the tables, can be stored in an AppCDS archive and are read at
+ * image build time by native-image. Without that class, for example when building from an IDE, the tables
+ * are computed.
+ *
+ * @version 10/18/26
+ */
+final class ElbonianTable {
+
+    //Largest value the Elbonian number system can represent
+    static final int MAX_VALUE = 9999;
+
+    //The Elbonian symbols from the largest weight to the smallest
+    static final char[] SYMBOLS = {'N', 'M', 'D', 'C', 'Y', 'X', 'J', 'I'};
+
+    //The weight of each symbol in SYMBOLS
+    static final int[] WEIGHTS = {3000, 1000, 300, 100, 30, 10, 3, 1};
+
+    //Maps an ASCII character to its index in SYMBOLS, or -1 if it is not an Elbonian symbol
+    static final byte[] SYMBOL_INDEX = new byte[128];
+
+    static {
+        java.util.Arrays.fill(SYMBOL_INDEX, (byte) -1);
+        for (int i = 0; i < SYMBOLS.length; i++) {
+            SYMBOL_INDEX[SYMBOLS[i]] = (byte) i;
+        }
+    }
+
+    private ElbonianTable() {
+    }
+
+    /**
+     * Returns the index of the given character in SYMBOLS.
+     *
+     * @param c The character to look up
+     * @return The symbol index, or -1 if the character is not an Elbonian symbol
+     */
+    static int symbolIndex(char c) {
+        return c < 128 ? SYMBOL_INDEX[c] : -1;
+    }
+
+    /**
+     * Returns the Elbonian spelling of a value. Index 0 is the empty string.
+     *
+     * @param value A value between 0 and 9999
+     * @return The interned Elbonian numeral
+     */
+    static String elbonian(int value) {
+        return Holder.ELBONIAN[value];
+    }
+
+    /**
+     * Looks up the value of an Elbonian numeral held in part of a character sequence.
+     *
+     * @param number The characters to read
+     * @param from The index of the first character of the numeral
+     * @param to The index after the last character of the numeral
+     * @return The value of the numeral, or -1 if the characters are not a valid, non-empty Elbonian numeral
+     */
+    static int arabic(CharSequence number, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        byte[] follow = Holder.FOLLOW;
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int symbol = symbolIndex(number.charAt(i));
+            if (symbol < 0 || (follow[value] & (1 << symbol)) == 0) {
+                return -1;
+            }
+            value += WEIGHTS[symbol];
+        }
+        return value;
+    }
+
+    /**
+     * Writes the Elbonian form of a value using the same rules as ElbonianArabicConverter.toElbonian(): as many
+     * of each symbol as fit, from the largest weight down.
+     *
+     * @param value A value between 0 and 9999
+     * @return The Elbonian numeral
+     */
+    static String encode(int value) {
+        StringBuilder elbo = new StringBuilder(12);
+        int remainder = value;
+        for (int i = 0; i < SYMBOLS.length; i++) {
+            int timesDivided = remainder / WEIGHTS[i];
+            remainder = remainder % WEIGHTS[i];
+            for (int j = 0; j < timesDivided; j++) {
+                elbo.append(SYMBOLS[i]);
+            }
+        }
+        return elbo.toString();
+    }
+
+    //Builds the tables the first time they are used (initialization-on-demand holder)
+    private static final class Holder {
+
+        static final String[] ELBONIAN = new String[MAX_VALUE + 1];
+
+        static final byte[] FOLLOW = new byte[MAX_VALUE + 1];
+
+        static {
+            //elbonian.computeTables forces the tables to be computed, to compare startup with the generated ones
+            if (Boolean.getBoolean("elbonian.computeTables") || !load()) {
+                compute();
+            }
+        }
+
+        //Copies the tables the Gradle build generates into ElbonianTableData; false if that class is missing
+        private static boolean load() {
+            String[] chunks;
+            String follow;
+            try {
+                //Looked up by name so the sources still compile without the generated class
+                Class<?> data = Class.forName("converter.ElbonianTableData");
+                chunks = (String[]) data.getDeclaredField("NUMERALS").get(null);
+                follow = (String) data.getDeclaredField("FOLLOW").get(null);
+            } catch (ReflectiveOperationException e) {
+                return false;
+            }
+            int value = 0;
+            for (String chunk : chunks) {
+                int start = 0;
+                for (int end = chunk.indexOf(',', start); end >= 0; end = chunk.indexOf(',', start)) {
+                    ELBONIAN[value++] = chunk.substring(start, end).intern();
+                    start = end + 1;
+                }
+            }
+            for (value = 0; value <= MAX_VALUE; value++) {
+                FOLLOW[value] = (byte) follow.charAt(value);
+            }
+            return true;
+        }
+
+        private static void compute() {
+            for (int value = 0; value <= MAX_VALUE; value++) {
+                ELBONIAN[value] = encode(value).intern();
+            }
+            //A symbol may follow a numeral if appending it gives the spelling of the larger value
+            for (int value = 0; value <= MAX_VALUE; value++) {
+                String prefix = ELBONIAN[value];
+                for (int symbol = 0; symbol < SYMBOLS.length; symbol++) {
+                    int next = value + WEIGHTS[symbol];
+                    if (next <= MAX_VALUE && ELBONIAN[next].length() == prefix.length() + 1
+                            && ELBONIAN[next].startsWith(prefix)) {
+                        FOLLOW[value] |= 1 << symbol;
+                    }
+                }
+            }
+        }
+    }
+
+}
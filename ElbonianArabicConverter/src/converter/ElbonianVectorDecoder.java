@@ -0,0 +1,221 @@
+package converter;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.BitSet;
+
+/**
+ * Decodes large numbers of Elbonian numerals stored as fixed width ASCII records, using the Vector API
+ * (jdk.incubator.vector) when it is available and a scalar loop otherwise. Both give the same results as
+ * ElbonianArabicConverter.toArabic().
+ *
+ * Every record is RECORD_WIDTH bytes long, which fits the longest numeral (NNMMDDCCYYXXJJII), and is padded
+ * at the end with zero bytes. One record fills one 128 bit vector, which is decoded without branches:
+ * <ol>
+ *     <li>each byte is hashed to 4 bits, and a lookup shuffle gives the symbol it should be and that symbol's
+ *     index; bytes that are not the expected symbol (or padding) are invalid,</li>
+ *     <li>comparing the symbol indexes with the same vector shifted by one, two and three lanes checks the
+ *     symbol order, the repetition limits and the N/M, D/C, Y/X and J/I combination rules,</li>
+ *     <li>each symbol counts 3 (N, D, Y, J) or 1 (M, C, X, I) towards the decimal digit of its group, and four
+ *     masked lane reductions give the four digits of the value.</li>
+ * </ol>
+ *
+ * The Vector API is an incubator module, so the JVM has to be started with --add-modules
+ * jdk.incubator.vector for the vector kernel to be used.
+ *
+ * @version 10/18/26
+ */
+public final class ElbonianVectorDecoder {
+
+    //Bytes per record
+    public static final int RECORD_WIDTH = 16;
+
+    //True if the Vector API can be used on this JVM
+    private static final boolean VECTORIZED = vectorApiAvailable();
+
+    private ElbonianVectorDecoder() {
+    }
+
+    /**
+     * Tells whether decode() uses the Vector API or falls back to the scalar loop.
+     *
+     * @return True if the Vector API is used
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Packs Elbonian numerals into fixed width records.
+     *
+     * @param values The values to pack; each must be between 1 and 9999
+     * @return count * RECORD_WIDTH bytes holding the numerals
+     * @throws IllegalArgumentException Thrown if a value cannot be represented in the Elbonian number system.
+     */
+    public static byte[] pack(int[] values) {
+        byte[] records = new byte[values.length * RECORD_WIDTH];
+        for (int i = 0; i < values.length; i++) {
+            String numeral = ElbonianNumber.valueOf(values[i]).toElbonian();
+            for (int j = 0; j < numeral.length(); j++) {
+                records[i * RECORD_WIDTH + j] = (byte) numeral.charAt(j);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Decodes fixed width records, with the Vector API when it is available.
+     *
+     * @param records The records, RECORD_WIDTH bytes each
+     * @param count The number of records to decode
+     * @param out Receives the value of each record, or 0 for records that are not a valid numeral
+     * @param errors Bit i is set if record i is not a valid numeral and cleared otherwise
+     * @return The number of records that could not be decoded
+     */
+    public static int decode(byte[] records, int count, int[] out, BitSet errors) {
+        checkSize(records, count);
+        return VECTORIZED ? Kernel.decode(records, count, out, errors) : decodeScalar(records, count, out, errors);
+    }
+
+    /**
+     * Decodes fixed width records one byte at a time, with the ElbonianParser state machine.
+     *
+     * @param records The records, RECORD_WIDTH bytes each
+     * @param count The number of records to decode
+     * @param out Receives the value of each record, or 0 for records that are not a valid numeral
+     * @param errors Bit i is set if record i is not a valid numeral and cleared otherwise
+     * @return The number of records that could not be decoded
+     */
+    public static int decodeScalar(byte[] records, int count, int[] out, BitSet errors) {
+        checkSize(records, count);
+        int failed = 0;
+        for (int r = 0; r < count; r++) {
+            int value = decodeRecord(records, r * RECORD_WIDTH);
+            if (value > 0) {
+                out[r] = value;
+                errors.clear(r);
+            } else {
+                out[r] = 0;
+                errors.set(r);
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    //Decodes one record, or returns 0 if it is not valid
+    private static int decodeRecord(byte[] records, int start) {
+        int state = ElbonianParser.START;
+        int end = start + RECORD_WIDTH;
+        int i = start;
+        for (; i < end && records[i] != 0; i++) {
+            int symbol = ElbonianTable.symbolIndex((char) (records[i] & 0xFF));
+            if (symbol < 0) {
+                return 0;
+            }
+            state = ElbonianParser.step(state, symbol);
+            if (state < 0) {
+                return 0;
+            }
+        }
+        for (; i < end; i++) {
+            if (records[i] != 0) {
+                return 0;
+            }
+        }
+        return ElbonianParser.value(state);
+    }
+
+    private static void checkSize(byte[] records, int count) {
+        if (count < 0 || records.length / RECORD_WIDTH < count) {
+            throw new IndexOutOfBoundsException(count + " records do not fit in " + records.length + " bytes");
+        }
+    }
+
+    //Loads the kernel's classes, which fails when the incubator module was not added to the JVM
+    private static boolean vectorApiAvailable() {
+        try {
+            return ByteVector.SPECIES_128.length() == RECORD_WIDTH;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    //The Vector API kernel, in its own class so it is only loaded when the module is there
+    private static final class Kernel {
+
+        private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_128;
+
+        //Indexed by hash: the symbol index 0 - 7, and the byte that must be there for it to be that symbol.
+        //Unused hashes expect a byte that hashes elsewhere, so nothing matches them.
+        private static final ByteVector SYMBOL_AT;
+        private static final ByteVector EXPECTED_AT;
+
+        static {
+            byte[] symbols = new byte[RECORD_WIDTH];
+            byte[] expected = new byte[RECORD_WIDTH];
+            expected[0] = 1;
+            for (int i = 0; i < ElbonianTable.SYMBOLS.length; i++) {
+                int c = ElbonianTable.SYMBOLS[i];
+                int hash = (c ^ (c >>> 1)) & 15;
+                symbols[hash] = (byte) i;
+                expected[hash] = (byte) c;
+            }
+            SYMBOL_AT = ByteVector.fromArray(SPECIES, symbols, 0);
+            EXPECTED_AT = ByteVector.fromArray(SPECIES, expected, 0);
+        }
+
+        //Symbol index given to padding, larger than every real symbol
+        private static final byte PADDING = 8;
+
+        static int decode(byte[] records, int count, int[] out, BitSet errors) {
+            ByteVector padding = ByteVector.broadcast(SPECIES, PADDING);
+            int failed = 0;
+            for (int r = 0; r < count; r++) {
+                ByteVector bytes = ByteVector.fromArray(SPECIES, records, r * RECORD_WIDTH);
+
+                //Classify every byte with two lookup shuffles
+                ByteVector hash = bytes.lanewise(VectorOperators.XOR, bytes.lanewise(VectorOperators.LSHR, 1)).and((byte) 15);
+                VectorMask<Byte> isPadding = bytes.eq((byte) 0);
+                VectorMask<Byte> isSymbol = bytes.eq(hash.selectFrom(EXPECTED_AT));
+                ByteVector symbol = hash.selectFrom(SYMBOL_AT).blend(padding, isPadding);
+
+                //Neighbouring lanes, with padding shifted in at the end
+                ByteVector next1 = symbol.slice(1, padding);
+                ByteVector next2 = symbol.slice(2, padding);
+                ByteVector next3 = symbol.slice(3, padding);
+                VectorMask<Byte> real = symbol.lt(PADDING);
+                VectorMask<Byte> major = symbol.and((byte) 1).eq((byte) 0).and(real);
+                VectorMask<Byte> minor = real.andNot(major);
+
+                VectorMask<Byte> bad = isSymbol.or(isPadding).not()
+                        .or(symbol.compare(VectorOperators.GT, next1))
+                        .or(major.and(symbol.eq(next3)))
+                        .or(minor.and(symbol.eq(next2)))
+                        .or(major.and(symbol.eq(next2)).and(next3.eq(symbol.add((byte) 1))));
+
+                if (bad.anyTrue() || isPadding.laneIsSet(0)) {
+                    out[r] = 0;
+                    errors.set(r);
+                    failed++;
+                    continue;
+                }
+
+                //N, D, Y and J count 3 towards their group's digit, M, C, X and I count 1
+                ByteVector digits = major.toVector().reinterpretAsBytes().neg().mul((byte) 2).add(real.toVector().reinterpretAsBytes().neg());
+                ByteVector group = symbol.lanewise(VectorOperators.LSHR, 1);
+                int value = 0;
+                for (int g = 0; g < 4; g++) {
+                    value = value * 10 + digits.reduceLanes(VectorOperators.ADD, group.eq((byte) g));
+                }
+                out[r] = value;
+                errors.clear(r);
+            }
+            return failed;
+        }
+    }
+
+}
@@ -0,0 +1,315 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * An opt-in notation for numbers larger than 9999. The number is split into base 10000 chunks, that is
+ * groups of four decimal digits counted from the right, and every chunk is written as an ordinary Elbonian
+ * numeral. The chunks are joined by SEPARATOR, most significant first. A chunk of 0000 has no numeral and
+ * leaves two separators next to each other, or a separator at the end:
+ *   12345 is "I.MMDYXJII", 20000 is "II." and 100000002 is "I..II".
+ * The first chunk is never empty, so every number has exactly one spelling and only positive numbers can be
+ * written.
+ *
+ * Each chunk is converted with the same tables as a plain number. BigIntegers are first turned into decimal
+ * digits by BigInteger.toString(), which splits large numbers recursively, and the chunks of very large
+ * numbers are then written in parallel. Parsing reads the text once, left to right, and needs no more than
+ * one int per chunk; the chunks are combined into a BigInteger by halves so that the multiplications stay
+ * balanced, which keeps a 10,000 digit number far from the quadratic cost of adding one chunk at a time.
+ *
+ * @version 10/18/26
+ */
+public final class ExtendedElbonian {
+
+    //Joins the chunks of an extended number
+    public static final char SEPARATOR = '.';
+
+    //Chunks below which a BigInteger is written on the calling thread
+    public static final int PARALLEL_THRESHOLD = 4096;
+
+    private static final int CHUNK = ElbonianTable.MAX_VALUE + 1;
+    private static final int CHUNK_DIGITS = 4;
+
+    //Four chunks are at most 10^16 - 1, which still fits in a long
+    private static final int LONG_CHUNKS = 4;
+
+    private ExtendedElbonian() {
+    }
+
+    /**
+     * Writes a value in the extended notation.
+     *
+     * @param value A positive value
+     * @return The extended numeral
+     * @throws ValueOutOfBoundsException Thrown if the value is zero or negative.
+     */
+    public static String toElbonian(long value) throws ValueOutOfBoundsException {
+        checkPositive(Long.signum(value));
+        //A long has at most 19 digits, so 5 chunks
+        int[] chunks = new int[5];
+        int count = 0;
+        for (long rest = value; rest > 0; rest /= CHUNK) {
+            chunks[count++] = (int) (rest % CHUNK);
+        }
+        StringBuilder out = new StringBuilder(count * 16);
+        out.append(ElbonianTable.elbonian(chunks[count - 1]));
+        for (int i = count - 2; i >= 0; i--) {
+            out.append(SEPARATOR).append(ElbonianTable.elbonian(chunks[i]));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes a value in the extended notation, converting the chunks of very large values on the common
+     * ForkJoinPool.
+     *
+     * @param value A positive value
+     * @return The extended numeral
+     * @throws ValueOutOfBoundsException Thrown if the value is zero or negative.
+     */
+    public static String toElbonian(BigInteger value) throws ValueOutOfBoundsException {
+        return toElbonian(value, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Writes a value in the extended notation, converting the chunks of very large values on a ForkJoinPool.
+     *
+     * @param value A positive value
+     * @param pool The pool to run on
+     * @return The extended numeral
+     * @throws ValueOutOfBoundsException Thrown if the value is zero or negative.
+     */
+    public static String toElbonian(BigInteger value, ForkJoinPool pool) throws ValueOutOfBoundsException {
+        checkPositive(value.signum());
+        if (value.bitLength() < Long.SIZE) {
+            return toElbonian(value.longValue());
+        }
+        String digits = value.toString();
+        int count = (digits.length() + CHUNK_DIGITS - 1) / CHUNK_DIGITS;
+        //ends[i] is where chunk i and the separator after it end in the output
+        int[] ends = new int[count];
+        Write measure = new Write(digits, ends, null, 0, count);
+        if (count > PARALLEL_THRESHOLD) {
+            pool.invoke(measure);
+            Arrays.parallelPrefix(ends, Integer::sum);
+        } else {
+            measure.compute();
+            for (int i = 1; i < count; i++) {
+                ends[i] += ends[i - 1];
+            }
+        }
+        //The last chunk has no separator after it
+        char[] out = new char[ends[count - 1] - 1];
+        Write write = new Write(digits, ends, out, 0, count);
+        if (count > PARALLEL_THRESHOLD) {
+            pool.invoke(write);
+        } else {
+            write.compute();
+        }
+        return new String(out);
+    }
+
+    /**
+     * Parses an extended numeral.
+     *
+     * @param number The numeral, without spaces
+     * @return The value
+     * @throws MalformedNumberException Thrown if the text is not a well formed extended numeral.
+     */
+    public static BigInteger parse(CharSequence number) throws MalformedNumberException {
+        Chunks chunks = new Chunks(number.length() / 8 + 1);
+        for (int i = 0; i < number.length(); i++) {
+            chunks.accept(number.charAt(i), i);
+        }
+        return chunks.finish(number.length()).toBigInteger();
+    }
+
+    /**
+     * Parses an extended numeral read from a Reader, without holding the text in memory.
+     *
+     * @param in The Reader to read until it ends
+     * @return The value
+     * @throws MalformedNumberException Thrown if the text is not a well formed extended numeral.
+     * @throws IOException Thrown if the Reader throws it.
+     */
+    public static BigInteger parse(Reader in) throws MalformedNumberException, IOException {
+        Chunks chunks = new Chunks(64);
+        char[] buffer = new char[8192];
+        int index = 0;
+        for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+            for (int i = 0; i < read; i++) {
+                chunks.accept(buffer[i], index++);
+            }
+        }
+        return chunks.finish(index).toBigInteger();
+    }
+
+    /**
+     * Parses an extended numeral whose value fits in a long.
+     *
+     * @param number The numeral, without spaces
+     * @return The value
+     * @throws MalformedNumberException Thrown if the text is not a well formed extended numeral.
+     * @throws ValueOutOfBoundsException Thrown if the value is larger than Long.MAX_VALUE.
+     */
+    public static long parseLong(CharSequence number) throws MalformedNumberException, ValueOutOfBoundsException {
+        Chunks chunks = new Chunks(5);
+        for (int i = 0; i < number.length(); i++) {
+            chunks.accept(number.charAt(i), i);
+        }
+        return chunks.finish(number.length()).toLong();
+    }
+
+    private static void checkPositive(int signum) throws ValueOutOfBoundsException {
+        if (signum < 0) {
+            throw new ValueOutOfBoundsException("Negative numbers cannot be represented in the Elbonian number system.");
+        }
+        if (signum == 0) {
+            throw new ValueOutOfBoundsException("Zero cannot be represented in the Elbonian number system.");
+        }
+    }
+
+    //Converts a range of chunks of a decimal String. Without an output array it stores the length of each
+    //chunk's numeral plus its separator in ends; with one it copies the numerals to where ends puts them.
+    private static final class Write extends RecursiveAction {
+
+        private final String digits;
+        private final int[] ends;
+        private final char[] out;
+        private final int from;
+        private final int to;
+
+        Write(String digits, int[] ends, char[] out, int from, int to) {
+            this.digits = digits;
+            this.ends = ends;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > PARALLEL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Write(digits, ends, out, from, middle), new Write(digits, ends, out, middle, to));
+                return;
+            }
+            //Chunk 0 holds the digits left over at the front, so chunk i ends at a fixed distance from the end
+            int last = ends.length - 1;
+            for (int i = from; i < to; i++) {
+                int end = digits.length() - (last - i) * CHUNK_DIGITS;
+                int value = 0;
+                for (int d = Math.max(0, end - CHUNK_DIGITS); d < end; d++) {
+                    value = value * 10 + (digits.charAt(d) - '0');
+                }
+                String numeral = ElbonianTable.elbonian(value);
+                if (out == null) {
+                    ends[i] = numeral.length() + 1;
+                } else {
+                    int start = i == 0 ? 0 : ends[i - 1];
+                    numeral.getChars(0, numeral.length(), out, start);
+                    if (i < last) {
+                        out[start + numeral.length()] = SEPARATOR;
+                    }
+                }
+            }
+        }
+    }
+
+    //Collects the chunk values of an extended numeral one character at a time
+    private static final class Chunks {
+
+        private int[] values;
+        private int count;
+        private int state = ElbonianParser.START;
+
+        Chunks(int capacity) {
+            values = new int[capacity];
+        }
+
+        void accept(char c, int index) throws MalformedNumberException {
+            if (c == SEPARATOR) {
+                if (count == 0 && state == ElbonianParser.START) {
+                    throw new MalformedNumberException("Expected an Elbonian numeral before '" + SEPARATOR
+                            + "' at index " + index + ".");
+                }
+                add();
+                return;
+            }
+            int symbol = ElbonianTable.symbolIndex(c);
+            if (symbol < 0) {
+                throw new MalformedNumberException((c == ' ' ? "Space at index " + index + " inside the number."
+                        : "Unexpected character '" + c + "' at index " + index + ".")
+                        + " Extended Elbonian numbers may only contain the symbols NMDCYXJI and '" + SEPARATOR + "'.");
+            }
+            int next = ElbonianParser.step(state, symbol);
+            if (next < 0) {
+                throw new MalformedNumberException(ElbonianParser.describe(next, ElbonianParser.lastSymbol(state), c, index));
+            }
+            state = next;
+        }
+
+        Chunks finish(int length) throws MalformedNumberException {
+            if (length == 0) {
+                throw new MalformedNumberException("No number was given.");
+            }
+            add();
+            return this;
+        }
+
+        private void add() {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = ElbonianParser.value(state);
+            state = ElbonianParser.START;
+        }
+
+        long toLong() throws ValueOutOfBoundsException {
+            long value = 0;
+            for (int i = 0; i < count; i++) {
+                if (value > (Long.MAX_VALUE - values[i]) / CHUNK) {
+                    throw new ValueOutOfBoundsException("Numbers larger than " + Long.MAX_VALUE + " do not fit in a long.");
+                }
+                value = value * CHUNK + values[i];
+            }
+            return value;
+        }
+
+        BigInteger toBigInteger() {
+            //powers[k] is 10000^(2^k), computed as the halves need them
+            return combine(0, count, new BigInteger[32]);
+        }
+
+        //Splits off a power of two of chunks at the low end so that both halves multiply at similar sizes
+        private BigInteger combine(int from, int to, BigInteger[] powers) {
+            int n = to - from;
+            if (n <= LONG_CHUNKS) {
+                long value = 0;
+                for (int i = from; i < to; i++) {
+                    value = value * CHUNK + values[i];
+                }
+                return BigInteger.valueOf(value);
+            }
+            int low = Integer.highestOneBit(n - 1);
+            BigInteger high = combine(from, to - low, powers);
+            return high.multiply(power(Integer.numberOfTrailingZeros(low), powers)).add(combine(to - low, to, powers));
+        }
+
+        private static BigInteger power(int k, BigInteger[] powers) {
+            if (powers[k] == null) {
+                powers[k] = k == 0 ? BigInteger.valueOf(CHUNK) : power(k - 1, powers).pow(2);
+            }
+            return powers[k];
+        }
+    }
+
+}
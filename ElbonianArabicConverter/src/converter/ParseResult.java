@@ -0,0 +1,148 @@
+package converter;
+
+/**
+ * Decodes the results of ElbonianNumber.tryParse(). A result is a single long, so rejecting a number costs
+ * no allocation at all: a valid number is its value, between 1 and 9999, and a rejected one is a negative
+ * long holding an error code and the index of the character that caused it. The message the throwing
+ * parse() would have used is only built if message() is called.
+ * <pre>
+ * long result = ElbonianNumber.tryParse(line);
+ * if (ParseResult.isSuccess(result)) {
+ *     total += ParseResult.value(result);
+ * } else if (ParseResult.error(result) == ParseResult.TOO_LARGE) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @version 10/18/26
+ */
+public final class ParseResult {
+
+    //Error codes of rejected numbers that are malformed
+    public static final int NO_NUMBER = 1;
+    public static final int MISSING_DIGIT = 2;
+    public static final int LEADING_ZERO = 3;
+    public static final int NOT_A_DIGIT = 4;
+    public static final int NOT_A_SYMBOL = 5;
+    public static final int WRONG_ORDER = 6;
+    public static final int TOO_MANY_REPEATS = 7;
+    public static final int INVALID_COMBINATION = 8;
+
+    //Error codes of rejected numbers that are well formed Arabic numbers outside 1 - 9999
+    public static final int NEGATIVE = 9;
+    public static final int ZERO = 10;
+    public static final int TOO_LARGE = 11;
+
+    //Layout of a rejected result: | sign | unused | symbol before the error + 1 (4 bits) | error code (8 bits) | index (32 bits) |
+    private static final int CODE_SHIFT = 32;
+    private static final int SYMBOL_SHIFT = 40;
+
+    private ParseResult() {
+    }
+
+    /**
+     * Builds the result of a rejected number.
+     *
+     * @param error One of the error codes
+     * @param index The index of the character that caused the error
+     * @param lastSymbol For the Elbonian ordering errors, the index in ElbonianTable.SYMBOLS of the symbol
+     *                   before the offending one; otherwise -1
+     * @return The result
+     */
+    static long failure(int error, int index, int lastSymbol) {
+        return Long.MIN_VALUE | (long) (lastSymbol + 1) << SYMBOL_SHIFT | (long) error << CODE_SHIFT
+                | (index & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @param result A result returned by tryParse()
+     * @return True if the number was valid
+     */
+    public static boolean isSuccess(long result) {
+        return result >= 0;
+    }
+
+    /**
+     * @param result A result returned by tryParse()
+     * @return The value of the number, or -1 if it was rejected
+     */
+    public static int value(long result) {
+        return result >= 0 ? (int) result : -1;
+    }
+
+    /**
+     * @param result A result returned by tryParse()
+     * @return The error code, or 0 if the number was valid
+     */
+    public static int error(long result) {
+        return result >= 0 ? 0 : (int) (result >>> CODE_SHIFT) & 0xFF;
+    }
+
+    /**
+     * @param result A result returned by tryParse()
+     * @return The index of the character that caused the error, or -1 if the number was valid
+     */
+    public static int index(long result) {
+        return result >= 0 ? -1 : (int) result;
+    }
+
+    /**
+     * Tells whether a rejected number was well formed but outside 1 - 9999, the case for which parse() throws
+     * ValueOutOfBoundsException rather than MalformedNumberException.
+     *
+     * @param result A result returned by tryParse()
+     * @return True if the error is NEGATIVE, ZERO or TOO_LARGE
+     */
+    public static boolean isOutOfBounds(long result) {
+        return error(result) >= NEGATIVE;
+    }
+
+    /**
+     * Builds the message parse() would have thrown for a rejected number.
+     *
+     * @param result A result returned by tryParse()
+     * @param number The characters that were parsed, so the offending character can be named
+     * @return The message, or null if the number was valid
+     */
+    public static String message(long result, CharSequence number) {
+        if (result >= 0) {
+            return null;
+        }
+        int index = index(result);
+        int lastSymbol = (int) (result >>> SYMBOL_SHIFT & 0xF) - 1;
+        switch (error(result)) {
+            case NO_NUMBER:
+                return "No number was given.";
+            case MISSING_DIGIT:
+                return "Expected a digit after '-' at index " + index + ".";
+            case LEADING_ZERO:
+                return "Leading zero at index " + index + ".";
+            case NOT_A_DIGIT:
+                return unexpected(number.charAt(index), index) + " Arabic numbers may only contain digits.";
+            case NOT_A_SYMBOL:
+                return unexpected(number.charAt(index), index) + " Elbonian numbers may only contain the symbols NMDCYXJI.";
+            case WRONG_ORDER:
+                return ElbonianParser.describe(ElbonianParser.ORDER_ERROR, lastSymbol, number.charAt(index), index);
+            case TOO_MANY_REPEATS:
+                return ElbonianParser.describe(ElbonianParser.REPEAT_ERROR, lastSymbol, number.charAt(index), index);
+            case INVALID_COMBINATION:
+                return ElbonianParser.describe(ElbonianParser.COMBINATION_ERROR, lastSymbol, number.charAt(index), index);
+            case NEGATIVE:
+                return "Negative numbers cannot be represented in the Elbonian number system.";
+            case ZERO:
+                return "Zero cannot be represented in the Elbonian number system.";
+            default:
+                return "Numbers larger than " + ElbonianTable.MAX_VALUE
+                        + " cannot be represented in the Elbonian number system.";
+        }
+    }
+
+    //Describes a character that does not belong in the number
+    private static String unexpected(char c, int index) {
+        if (c == ' ') {
+            return "Space at index " + index + " inside the number.";
+        }
+        return "Unexpected character '" + c + "' at index " + index + ".";
+    }
+
+}
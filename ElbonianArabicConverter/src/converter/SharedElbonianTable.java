@@ -0,0 +1,257 @@
+package converter;
+
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The conversion tables in a file that many processes can map at once. One process writes the file, and
+ * every other process maps it read only, so the tables live once in the operating system's page cache
+ * instead of once in every heap, and opening them builds nothing. Lookups read the mapping directly and do
+ * not copy it.
+ *
+ * Every value has a 16 byte slot holding its numeral in ASCII, padded with zero bytes; 16 is the length of
+ * the longest numeral, NNMMDDCCYYXXJJII (8888). Numerals are looked up by how many times each symbol
+ * appears: since the symbols must come in order, the counts alone decide the numeral, and with at most 3 of
+ * any symbol they pack into 2 bits per symbol. The reverse table maps each of the 65536 keys to its value,
+ * or to 0 when the counts break a repetition or combination rule. The file layout, little endian, is:
+ * <pre>
+ * magic "ELBS" (4 bytes), version (2), slot size (2), largest value (4), reverse table entries (4)
+ * the numeral of each value from 0 to 9999, 0 being empty (16 bytes each)
+ * the value of each symbol count key (2 bytes each)
+ * </pre>
+ *
+ * @version 10/18/26
+ */
+public final class SharedElbonianTable {
+
+    //"ELBS" read as a little endian int
+    private static final int MAGIC = 'E' | 'L' << 8 | 'B' << 16 | 'S' << 24;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int SLOT_SIZE = 16;
+    private static final int COUNT_BITS = 2;
+    private static final int KEYS = 1 << (COUNT_BITS * ElbonianTable.SYMBOLS.length);
+    private static final int REVERSE_OFFSET = HEADER_SIZE + SLOT_SIZE * (ElbonianTable.MAX_VALUE + 1);
+    private static final int FILE_SIZE = REVERSE_OFFSET + 2 * KEYS;
+
+    private final ByteBuffer table;
+
+    private SharedElbonianTable(ByteBuffer table) {
+        this.table = table;
+    }
+
+    /**
+     * Writes the tables to a file. The file is written under a temporary name and then moved into place, so a
+     * process that opens it at the same time sees either the old file or the complete new one.
+     *
+     * @param file The file to write; it is replaced if it exists
+     * @throws IOException Thrown if the file cannot be written.
+     */
+    public static void write(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(FILE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) SLOT_SIZE).putInt(ElbonianTable.MAX_VALUE).putInt(KEYS);
+        for (int value = 1; value <= ElbonianTable.MAX_VALUE; value++) {
+            String numeral = ElbonianTable.elbonian(value);
+            buffer.position(HEADER_SIZE + SLOT_SIZE * value);
+            buffer.put(numeral.getBytes(StandardCharsets.US_ASCII));
+            buffer.putShort(REVERSE_OFFSET + 2 * key(numeral), (short) value);
+        }
+        buffer.clear();
+        Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Maps a file written by write().
+     *
+     * @param file The file to open
+     * @return The tables
+     * @throws IOException Thrown if the file cannot be read or does not hold the tables.
+     */
+    public static SharedElbonianTable open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != FILE_SIZE) {
+                throw new IOException(file + " is not an Elbonian table");
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.getInt(0) != MAGIC) {
+                throw new IOException(file + " is not an Elbonian table");
+            }
+            if (mapped.getShort(4) != VERSION) {
+                throw new IOException(file + " has unsupported version " + mapped.getShort(4));
+            }
+            if (mapped.getShort(6) != SLOT_SIZE || mapped.getInt(8) != ElbonianTable.MAX_VALUE || mapped.getInt(12) != KEYS) {
+                throw new IOException(file + " is damaged");
+            }
+            return new SharedElbonianTable(mapped);
+        }
+    }
+
+    /**
+     * Maps the tables, writing the file first if no process has yet. Workers that share a host can all call
+     * this with the same path.
+     *
+     * @param file The file to open or create
+     * @return The tables
+     * @throws IOException Thrown if the file cannot be written or read.
+     */
+    public static SharedElbonianTable openOrCreate(Path file) throws IOException {
+        try {
+            return open(file);
+        } catch (NoSuchFileException e) {
+            write(file);
+            return open(file);
+        }
+    }
+
+    //Packs how many times each symbol appears in a valid numeral
+    private static int key(String numeral) {
+        int key = 0;
+        for (int i = 0; i < numeral.length(); i++) {
+            key += 1 << (COUNT_BITS * ElbonianTable.symbolIndex(numeral.charAt(i)));
+        }
+        return key;
+    }
+
+    /**
+     * Returns the length of a value's numeral.
+     *
+     * @param value A value between 1 and 9999
+     * @return The number of symbols
+     */
+    public int length(int value) {
+        int slot = slot(value);
+        int length = 0;
+        while (length < SLOT_SIZE && table.get(slot + length) != 0) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Copies a value's numeral as ASCII bytes to the buffer's position, and moves the position past them.
+     *
+     * @param value A value between 1 and 9999
+     * @param out The buffer to write to
+     * @return out
+     * @throws BufferOverflowException Thrown if the buffer does not have room for the numeral.
+     */
+    public ByteBuffer appendTo(int value, ByteBuffer out) {
+        int slot = slot(value);
+        int length = length(value);
+        if (out.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < length; i++) {
+            out.put(table.get(slot + i));
+        }
+        return out;
+    }
+
+    /**
+     * Returns a value's numeral as a new String.
+     *
+     * @param value The value
+     * @return The Elbonian numeral
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system.
+     */
+    public String toElbonian(int value) throws ValueOutOfBoundsException {
+        if (value < ElbonianNumber.MIN_VALUE || value > ElbonianNumber.MAX_VALUE) {
+            throw new ValueOutOfBoundsException("Value " + value + " cannot be represented in the Elbonian number system.");
+        }
+        int slot = slot(value);
+        char[] numeral = new char[length(value)];
+        for (int i = 0; i < numeral.length; i++) {
+            numeral[i] = (char) table.get(slot + i);
+        }
+        return new String(numeral);
+    }
+
+    /**
+     * Looks up the value of an Elbonian numeral.
+     *
+     * @param numeral The numeral, without spaces
+     * @return The value, or -1 if the numeral is not valid
+     */
+    public int toArabic(CharSequence numeral) {
+        int key = 0;
+        int last = 0;
+        for (int i = 0; i < numeral.length(); i++) {
+            int symbol = ElbonianTable.symbolIndex(numeral.charAt(i));
+            key = count(key, last, symbol);
+            if (key < 0) {
+                return -1;
+            }
+            last = symbol;
+        }
+        return value(key);
+    }
+
+    /**
+     * Looks up the value of an Elbonian numeral written in ASCII bytes, without moving the buffer's position.
+     *
+     * @param numeral The buffer holding the numeral
+     * @param offset The index of the numeral's first byte
+     * @param length The number of bytes
+     * @return The value, or -1 if the numeral is not valid
+     */
+    public int toArabic(ByteBuffer numeral, int offset, int length) {
+        int key = 0;
+        int last = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int symbol = ElbonianTable.symbolIndex((char) (numeral.get(i) & 0xFF));
+            key = count(key, last, symbol);
+            if (key < 0) {
+                return -1;
+            }
+            last = symbol;
+        }
+        return value(key);
+    }
+
+    //Counts one more symbol into the key, or returns -1 if it is not a symbol, is out of order or is a 4th
+    private static int count(int key, int last, int symbol) {
+        if (symbol < last) {
+            return -1;
+        }
+        int shift = COUNT_BITS * symbol;
+        if ((key >>> shift & 3) == 3) {
+            return -1;
+        }
+        return key + (1 << shift);
+    }
+
+    private int value(int key) {
+        //The empty numeral has key 0, whose entry is 0 like every invalid key
+        int value = table.getShort(REVERSE_OFFSET + 2 * key);
+        return value == 0 ? -1 : value;
+    }
+
+    private static int slot(int value) {
+        if (value < ElbonianNumber.MIN_VALUE || value > ElbonianNumber.MAX_VALUE) {
+            throw new IllegalArgumentException("Value " + value + " cannot be represented in the Elbonian number system.");
+        }
+        return HEADER_SIZE + SLOT_SIZE * value;
+    }
+
+}
@@ -0,0 +1,107 @@
+package converter.column;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Packs small non negative numbers into little endian 64 bit words, each number taking the same number of
+ * bits. A number may straddle two words. A width of 0 stores nothing, which suits a block of equal values.
+ *
+ * @version 10/18/26
+ */
+final class BitPacking {
+
+    private BitPacking() {
+    }
+
+    /**
+     * Returns the number of bits needed to store a number.
+     *
+     * @param max The largest number that will be stored
+     * @return The width, between 0 and 32
+     */
+    static int width(int max) {
+        return 32 - Integer.numberOfLeadingZeros(max);
+    }
+
+    /**
+     * Returns the number of bytes that count numbers of the given width take.
+     *
+     * @param count The number of numbers
+     * @param width The width of each number
+     * @return A multiple of 8
+     */
+    static int bytes(int count, int width) {
+        return (int) (((long) count * width + 63) >>> 6) << 3;
+    }
+
+    /**
+     * Writes numbers at the buffer's position, which must be in little endian order.
+     *
+     * @param numbers The numbers; each must fit in width bits
+     * @param from The index of the first number
+     * @param count The number of numbers
+     * @param width The width of each number
+     * @param out The buffer to write to
+     */
+    static void pack(int[] numbers, int from, int count, int width, ByteBuffer out) {
+        if (width == 0) {
+            return;
+        }
+        long word = 0;
+        int used = 0;
+        for (int i = from; i < from + count; i++) {
+            long number = numbers[i];
+            word |= number << used;
+            used += width;
+            if (used >= 64) {
+                out.putLong(word);
+                used -= 64;
+                word = used == 0 ? 0 : number >>> (width - used);
+            }
+        }
+        if (used > 0) {
+            out.putLong(word);
+        }
+    }
+
+    /**
+     * Reads numbers written by pack(), adding base to each.
+     *
+     * @param in The buffer to read; its position and limit are not used or changed
+     * @param offset The index of the first packed word in the buffer
+     * @param count The number of numbers
+     * @param width The width of each number
+     * @param base Added to every number
+     * @param out Receives the numbers
+     * @param outOffset The index of the first number in out
+     */
+    static void unpack(ByteBuffer in, int offset, int count, int width, int base, int[] out, int outOffset) {
+        for (int i = 0; i < count; i++) {
+            out[outOffset + i] = base + get(in, offset, i, width);
+        }
+    }
+
+    /**
+     * Reads one number written by pack().
+     *
+     * @param in The buffer to read; its position and limit are not used or changed
+     * @param offset The index of the first packed word in the buffer
+     * @param index The index of the number among the packed numbers
+     * @param width The width of each number
+     * @return The number
+     */
+    static int get(ByteBuffer in, int offset, int index, int width) {
+        if (width == 0) {
+            return 0;
+        }
+        long bit = (long) index * width;
+        int word = offset + (int) (bit >>> 6 << 3);
+        int shift = (int) (bit & 63);
+        long number = in.getLong(word) >>> shift;
+        if (shift + width > 64) {
+            number |= in.getLong(word + 8) << (64 - shift);
+        }
+        return (int) (number & ((1L << width) - 1));
+    }
+
+}
@@ -0,0 +1,28 @@
+package converter.column;
+
+/**
+ * The ways a block of values can be stored in a column file. Every encoding bit packs its numbers with the
+ * fewest bits that hold the largest one; they differ in which numbers are stored.
+ *
+ * @version 10/18/26
+ */
+public enum ColumnEncoding {
+
+    /**
+     * Every value, stored as its distance from the block minimum. Best for values spread over a range.
+     */
+    PLAIN,
+
+    /**
+     * The first value, then the difference between each value and the one before it, zigzag encoded so small
+     * negative differences stay small. Best for sorted or slowly changing values.
+     */
+    DELTA,
+
+    /**
+     * Runs of equal values, stored as each run's value (as a distance from the block minimum) and its length.
+     * Best for values that repeat.
+     */
+    RLE
+
+}
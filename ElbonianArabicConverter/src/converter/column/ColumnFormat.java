@@ -0,0 +1,40 @@
+package converter.column;
+
+/**
+ * The layout of a column file. All numbers are little endian.
+ * <pre>
+ * file header    magic "ELBC" (4 bytes), version (2), unused (2)
+ * blocks         one after another, each a block header followed by its payload
+ * block index    the file position of every block (8 bytes each)
+ * trailer        number of values (8), number of blocks (4), magic "ELBC" (4)
+ *
+ * block header   encoding (1), width (1), first value (2), number of values (4),
+ *                minimum (2), maximum (2), payload length in bytes (4)
+ * </pre>
+ * The payload of a block depends on its encoding:
+ * <ul>
+ *     <li>PLAIN: every value minus the minimum, packed with width bits each,</li>
+ *     <li>DELTA: the zigzag encoded difference between each value after the first and the value before it,
+ *     packed with width bits each,</li>
+ *     <li>RLE: the number of runs (4) and the width of the run lengths (4), then the value of every run minus
+ *     the minimum packed with width bits each, then every run length minus one packed with the run length
+ *     width.</li>
+ * </ul>
+ * Packed numbers fill whole 64 bit words, so every payload is a multiple of 8 bytes long.
+ *
+ * @version 10/18/26
+ */
+final class ColumnFormat {
+
+    //"ELBC" read as a little endian int
+    static final int MAGIC = 'E' | 'L' << 8 | 'B' << 16 | 'C' << 24;
+    static final short VERSION = 1;
+
+    static final int FILE_HEADER_SIZE = 8;
+    static final int BLOCK_HEADER_SIZE = 16;
+    static final int TRAILER_SIZE = 16;
+
+    private ColumnFormat() {
+    }
+
+}
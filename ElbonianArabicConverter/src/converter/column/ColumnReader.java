@@ -0,0 +1,312 @@
+package converter.column;
+
+import converter.ElbonianBatchConverter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * Reads a column file written by ColumnWriter. The file is memory mapped and blocks are decoded straight
+ * from the mapping into the caller's arrays, without copying the file into the heap first.
+ *
+ * Files larger than 2 GB are mapped in several windows, each holding whole blocks. The block headers are
+ * read when the file is opened, so the size, encoding and minimum and maximum of every block are known
+ * without decoding it; mayContain() uses them to skip blocks that cannot hold a range of values.
+ *
+ * A ColumnReader may be used from several threads at once.
+ *
+ * @version 10/18/26
+ */
+public class ColumnReader implements Closeable {
+
+    private static final ColumnEncoding[] ENCODINGS = ColumnEncoding.values();
+
+    private final ByteBuffer[] windows;
+    private final int[] blockWindow;
+    private final int[] blockOffset;
+    private final long[] firstValue;
+    private final long size;
+
+    //Decoded values and error bits reused by readElbonian(), one set per thread
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    private ColumnReader(ByteBuffer[] windows, int[] blockWindow, int[] blockOffset, long[] firstValue, long size) {
+        this.windows = windows;
+        this.blockWindow = blockWindow;
+        this.blockOffset = blockOffset;
+        this.firstValue = firstValue;
+        this.size = size;
+    }
+
+    /**
+     * Opens a column file.
+     *
+     * @param path The file to read
+     * @return A reader for the file
+     * @throws IOException Thrown if the file cannot be read or is not a column file.
+     */
+    public static ColumnReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < ColumnFormat.FILE_HEADER_SIZE + ColumnFormat.TRAILER_SIZE) {
+                throw new IOException(path + " is not a column file");
+            }
+            ByteBuffer header = read(channel, 0, ColumnFormat.FILE_HEADER_SIZE);
+            ByteBuffer trailer = read(channel, fileSize - ColumnFormat.TRAILER_SIZE, ColumnFormat.TRAILER_SIZE);
+            if (header.getInt(0) != ColumnFormat.MAGIC || trailer.getInt(12) != ColumnFormat.MAGIC) {
+                throw new IOException(path + " is not a column file");
+            }
+            if (header.getShort(4) != ColumnFormat.VERSION) {
+                throw new IOException(path + " has unsupported version " + header.getShort(4));
+            }
+            long size = trailer.getLong(0);
+            int blocks = trailer.getInt(8);
+            long indexStart = fileSize - ColumnFormat.TRAILER_SIZE - 8L * blocks;
+            if (blocks < 0 || indexStart < ColumnFormat.FILE_HEADER_SIZE) {
+                throw new IOException(path + " has a damaged block index");
+            }
+            ByteBuffer index = read(channel, indexStart, 8 * blocks);
+
+            //Map windows of whole blocks, each as large as a mapping allows
+            int[] blockWindow = new int[blocks];
+            int[] blockOffset = new int[blocks];
+            long[] firstValue = new long[blocks + 1];
+            ByteBuffer[] windows = new ByteBuffer[blocks];
+            int windowCount = 0;
+            long windowStart = 0;
+            for (int b = 0; b < blocks; b++) {
+                long start = index.getLong(8 * b);
+                long end = b + 1 < blocks ? index.getLong(8 * (b + 1)) : indexStart;
+                if (start < ColumnFormat.FILE_HEADER_SIZE || end - start < ColumnFormat.BLOCK_HEADER_SIZE
+                        || end - start > Integer.MAX_VALUE) {
+                    throw new IOException(path + " has a damaged block index");
+                }
+                if (windowCount == 0 || end - windowStart > Integer.MAX_VALUE) {
+                    long windowEnd = start;
+                    for (int last = b; last < blocks; last++) {
+                        long lastEnd = last + 1 < blocks ? index.getLong(8 * (last + 1)) : indexStart;
+                        if (lastEnd - start > Integer.MAX_VALUE) {
+                            break;
+                        }
+                        windowEnd = lastEnd;
+                    }
+                    windowStart = start;
+                    windows[windowCount++] = channel.map(FileChannel.MapMode.READ_ONLY, start, windowEnd - start)
+                            .order(ByteOrder.LITTLE_ENDIAN);
+                }
+                blockWindow[b] = windowCount - 1;
+                blockOffset[b] = (int) (start - windowStart);
+                firstValue[b + 1] = firstValue[b] + windows[windowCount - 1].getInt(blockOffset[b] + 4);
+            }
+            if (firstValue[blocks] != size) {
+                throw new IOException(path + " holds " + firstValue[blocks] + " values but claims " + size);
+            }
+            ByteBuffer[] mapped = new ByteBuffer[windowCount];
+            System.arraycopy(windows, 0, mapped, 0, windowCount);
+            return new ColumnReader(mapped, blockWindow, blockOffset, firstValue, size);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * @return The number of values in the file
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return The number of blocks in the file
+     */
+    public int blockCount() {
+        return blockWindow.length;
+    }
+
+    /**
+     * @param block The index of a block
+     * @return The number of values in the block
+     */
+    public int blockSize(int block) {
+        return window(block).getInt(blockOffset[block] + 4);
+    }
+
+    /**
+     * @param block The index of a block
+     * @return The index in the file of the block's first value
+     */
+    public long blockStart(int block) {
+        checkBlock(block);
+        return firstValue[block];
+    }
+
+    /**
+     * @param block The index of a block
+     * @return The smallest value in the block
+     */
+    public int min(int block) {
+        return window(block).getShort(blockOffset[block] + 8);
+    }
+
+    /**
+     * @param block The index of a block
+     * @return The largest value in the block
+     */
+    public int max(int block) {
+        return window(block).getShort(blockOffset[block] + 10);
+    }
+
+    /**
+     * @param block The index of a block
+     * @return The encoding the block is stored with
+     */
+    public ColumnEncoding encoding(int block) {
+        return ENCODINGS[window(block).get(blockOffset[block])];
+    }
+
+    /**
+     * Tells from the block statistics alone whether a block may hold values in a range.
+     *
+     * @param block The index of a block
+     * @param low The smallest value of the range
+     * @param high The largest value of the range
+     * @return False if no value of the block is in the range
+     */
+    public boolean mayContain(int block, int low, int high) {
+        return min(block) <= high && max(block) >= low;
+    }
+
+    /**
+     * Decodes one block.
+     *
+     * @param block The index of the block
+     * @param out Receives the values; it must have room for blockSize(block) of them
+     * @param offset The index in out of the first value
+     * @return The number of values decoded
+     */
+    public int read(int block, int[] out, int offset) {
+        ByteBuffer window = window(block);
+        int header = blockOffset[block];
+        ColumnEncoding encoding = ENCODINGS[window.get(header)];
+        int width = window.get(header + 1);
+        int first = window.getShort(header + 2);
+        int count = window.getInt(header + 4);
+        int min = window.getShort(header + 8);
+        int payload = header + ColumnFormat.BLOCK_HEADER_SIZE;
+        if (offset < 0 || offset > out.length - count) {
+            throw new IndexOutOfBoundsException("Block " + block + " holds " + count + " values, which do not fit in "
+                    + out.length + " at offset " + offset);
+        }
+
+        switch (encoding) {
+            case PLAIN:
+                BitPacking.unpack(window, payload, count, width, min, out, offset);
+                break;
+            case DELTA:
+                out[offset] = first;
+                BitPacking.unpack(window, payload, count - 1, width, 0, out, offset + 1);
+                for (int i = offset + 1; i < offset + count; i++) {
+                    int zigzag = out[i];
+                    out[i] = out[i - 1] + ((zigzag >>> 1) ^ -(zigzag & 1));
+                }
+                break;
+            default:
+                int runs = window.getInt(payload);
+                int runWidth = window.getInt(payload + 4);
+                int values = payload + 8;
+                int lengths = values + BitPacking.bytes(runs, width);
+                int i = offset;
+                for (int r = 0; r < runs; r++) {
+                    int value = min + BitPacking.get(window, values, r, width);
+                    int end = i + 1 + BitPacking.get(window, lengths, r, runWidth);
+                    while (i < end) {
+                        out[i++] = value;
+                    }
+                }
+                break;
+        }
+        return count;
+    }
+
+    /**
+     * Decodes every value of the file.
+     *
+     * @return The values
+     * @throws IllegalStateException Thrown if the file holds more values than fit in an array.
+     */
+    public int[] readAll() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException(size + " values do not fit in an array");
+        }
+        int[] values = new int[(int) size];
+        for (int b = 0; b < blockCount(); b++) {
+            read(b, values, (int) firstValue[b]);
+        }
+        return values;
+    }
+
+    /**
+     * Decodes one block as Elbonian numerals packed one after another, like ElbonianBatchConverter.toElbonian().
+     * The values are decoded into arrays the reader keeps for each thread, so scanning blocks creates no garbage.
+     *
+     * @param block The index of the block
+     * @param out The buffer the numerals are written to, from its position; it needs room for
+     *            ElbonianBatchConverter.maxLength(blockSize(block)) characters
+     * @param offsets Receives the start of each numeral in out, plus the end of the last one
+     * @return The number of numerals written
+     */
+    public int readElbonian(int block, CharBuffer out, int[] offsets) {
+        Scratch scratch = this.scratch.get();
+        int count = blockSize(block);
+        if (scratch.values.length < count) {
+            scratch.values = new int[count];
+        }
+        read(block, scratch.values, 0);
+        ElbonianBatchConverter.toElbonian(scratch.values, 0, count, out, offsets, scratch.errors);
+        return count;
+    }
+
+    /**
+     * Releases the mapping. The reader must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        //Mappings are released when they are garbage collected; drop the references so that can happen
+        for (int i = 0; i < windows.length; i++) {
+            windows[i] = null;
+        }
+    }
+
+    private ByteBuffer window(int block) {
+        checkBlock(block);
+        return windows[blockWindow[block]];
+    }
+
+    private void checkBlock(int block) {
+        if (block < 0 || block >= blockWindow.length) {
+            throw new IndexOutOfBoundsException("Block " + block + " of " + blockWindow.length);
+        }
+    }
+
+    //The arrays one thread decodes blocks into, grown to the largest block it has read
+    private static final class Scratch {
+        int[] values = new int[0];
+        final BitSet errors = new BitSet();
+    }
+
+}
@@ -0,0 +1,273 @@
+package converter.column;
+
+import converter.ElbonianNumber;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Writes a column file: a sequence of values between 1 and 9999, stored in blocks of bit packed numbers.
+ * Every value fits in 14 bits, and most blocks need far fewer, since values are stored relative to the
+ * block minimum and each block uses the narrowest encoding it is allowed to. The layout is described in
+ * ColumnFormat; ColumnReader reads the files back.
+ *
+ * Values are collected in memory until a block is full, so memory use depends on the block size and not on
+ * the number of values.
+ *
+ * @version 10/18/26
+ */
+public class ColumnWriter implements Closeable {
+
+    //Default number of values per block
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final Set<ColumnEncoding> encodings;
+    private final int[] values;
+    private final int[] scratch;
+    private final ByteBuffer buffer;
+    private int count;
+    private long total;
+    private long[] blockPositions = new long[16];
+    private int blocks;
+    private boolean closed;
+
+    /**
+     * Creates a writer with the default block size that may use every encoding.
+     *
+     * @param path The file to write; it is replaced if it exists
+     * @throws IOException Thrown if the file cannot be created.
+     */
+    public ColumnWriter(Path path) throws IOException {
+        this(path, DEFAULT_BLOCK_SIZE, EnumSet.allOf(ColumnEncoding.class));
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param path The file to write; it is replaced if it exists
+     * @param blockSize The number of values per block
+     * @param encodings The encodings blocks may use; each block uses the one that stores it in the fewest
+     * bytes. PLAIN is always allowed.
+     * @throws IOException Thrown if the file cannot be created.
+     */
+    public ColumnWriter(Path path, int blockSize, Set<ColumnEncoding> encodings) throws IOException {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+        this.encodings = EnumSet.of(ColumnEncoding.PLAIN);
+        this.encodings.addAll(encodings);
+        this.values = new int[blockSize];
+        this.scratch = new int[blockSize];
+        //Room for the largest block: a header and 14 bits per value, since no encoding is chosen over a larger PLAIN
+        this.buffer = ByteBuffer.allocate(ColumnFormat.BLOCK_HEADER_SIZE + BitPacking.bytes(blockSize, 14))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        this.channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        buffer.putInt(ColumnFormat.MAGIC).putShort(ColumnFormat.VERSION).putShort((short) 0);
+        flush();
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value The value, between 1 and 9999
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system.
+     * @throws IOException Thrown if a full block cannot be written.
+     */
+    public void write(int value) throws ValueOutOfBoundsException, IOException {
+        if (value < ElbonianNumber.MIN_VALUE || value > ElbonianNumber.MAX_VALUE) {
+            throw new ValueOutOfBoundsException("Value " + value + " cannot be represented in the Elbonian number system.");
+        }
+        ensureOpen();
+        values[count++] = value;
+        if (count == values.length) {
+            writeBlock();
+        }
+    }
+
+    /**
+     * Adds a number.
+     *
+     * @param number The number
+     * @throws IOException Thrown if a full block cannot be written.
+     */
+    public void write(ElbonianNumber number) throws IOException {
+        ensureOpen();
+        values[count++] = number.toArabic();
+        if (count == values.length) {
+            writeBlock();
+        }
+    }
+
+    /**
+     * Adds part of an array of values. Either all of them are added or, if one is out of bounds, none are.
+     *
+     * @param values The values, each between 1 and 9999
+     * @param offset The index of the first value to add
+     * @param length The number of values to add
+     * @throws ValueOutOfBoundsException Thrown if a value cannot be represented in the Elbonian number system.
+     * @throws IOException Thrown if a full block cannot be written.
+     */
+    public void write(int[] values, int offset, int length) throws ValueOutOfBoundsException, IOException {
+        for (int i = offset; i < offset + length; i++) {
+            if (values[i] < ElbonianNumber.MIN_VALUE || values[i] > ElbonianNumber.MAX_VALUE) {
+                throw new ValueOutOfBoundsException("Value " + values[i] + " cannot be represented in the Elbonian number system.");
+            }
+        }
+        ensureOpen();
+        while (length > 0) {
+            int copied = Math.min(length, this.values.length - count);
+            System.arraycopy(values, offset, this.values, count, copied);
+            count += copied;
+            offset += copied;
+            length -= copied;
+            if (count == this.values.length) {
+                writeBlock();
+            }
+        }
+    }
+
+    /**
+     * Writes the last block and the block index, and closes the file.
+     *
+     * @throws IOException Thrown if the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (count > 0) {
+                writeBlock();
+            }
+            ByteBuffer index = ByteBuffer.allocate(blocks * 8 + ColumnFormat.TRAILER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < blocks; i++) {
+                index.putLong(blockPositions[i]);
+            }
+            index.putLong(total).putInt(blocks).putInt(ColumnFormat.MAGIC);
+            index.flip();
+            while (index.hasRemaining()) {
+                channel.write(index);
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("The column file is closed");
+        }
+    }
+
+    //Encodes the collected values as one block, with whichever allowed encoding is smallest
+    private void writeBlock() throws IOException {
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        int runs = 1;
+        int longestRun = 1;
+        int run = 1;
+        int largestDelta = 0;
+        for (int i = 0; i < count; i++) {
+            int value = values[i];
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            if (i > 0) {
+                int delta = value - values[i - 1];
+                largestDelta = Math.max(largestDelta, (delta << 1) ^ (delta >> 31));
+                if (delta == 0) {
+                    longestRun = Math.max(longestRun, ++run);
+                } else {
+                    runs++;
+                    run = 1;
+                }
+            }
+        }
+        int width = BitPacking.width(max - min);
+        int deltaWidth = BitPacking.width(largestDelta);
+        int runWidth = BitPacking.width(longestRun - 1);
+
+        ColumnEncoding encoding = ColumnEncoding.PLAIN;
+        int size = BitPacking.bytes(count, width);
+        if (encodings.contains(ColumnEncoding.DELTA) && BitPacking.bytes(count - 1, deltaWidth) < size) {
+            encoding = ColumnEncoding.DELTA;
+            size = BitPacking.bytes(count - 1, deltaWidth);
+        }
+        if (encodings.contains(ColumnEncoding.RLE) && 8 + BitPacking.bytes(runs, width) + BitPacking.bytes(runs, runWidth) < size) {
+            encoding = ColumnEncoding.RLE;
+            size = 8 + BitPacking.bytes(runs, width) + BitPacking.bytes(runs, runWidth);
+        }
+
+        buffer.put((byte) encoding.ordinal())
+                .put((byte) (encoding == ColumnEncoding.DELTA ? deltaWidth : width))
+                .putShort((short) values[0])
+                .putInt(count)
+                .putShort((short) min)
+                .putShort((short) max)
+                .putInt(size);
+        switch (encoding) {
+            case PLAIN:
+                for (int i = 0; i < count; i++) {
+                    scratch[i] = values[i] - min;
+                }
+                BitPacking.pack(scratch, 0, count, width, buffer);
+                break;
+            case DELTA:
+                for (int i = 1; i < count; i++) {
+                    int delta = values[i] - values[i - 1];
+                    scratch[i - 1] = (delta << 1) ^ (delta >> 31);
+                }
+                BitPacking.pack(scratch, 0, count - 1, deltaWidth, buffer);
+                break;
+            default:
+                buffer.putInt(runs).putInt(runWidth);
+                runs(min, false);
+                BitPacking.pack(scratch, 0, runs, width, buffer);
+                runs(min, true);
+                BitPacking.pack(scratch, 0, runs, runWidth, buffer);
+                break;
+        }
+
+        if (blocks == blockPositions.length) {
+            blockPositions = Arrays.copyOf(blockPositions, blocks * 2);
+        }
+        blockPositions[blocks++] = channel.position();
+        total += count;
+        count = 0;
+        flush();
+    }
+
+    //Puts the value of every run minus min, or the length of every run minus one, at the start of scratch
+    private void runs(int min, boolean lengths) {
+        int r = 0;
+        int start = 0;
+        for (int i = 1; i <= count; i++) {
+            if (i == count || values[i] != values[i - 1]) {
+                scratch[r++] = lengths ? i - start - 1 : values[start] - min;
+                start = i;
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+}
@@ -16,4 +16,14 @@ public class MalformedNumberException extends Exception {
         super(message);
     }
 
+    /**
+     * Constructor that can skip capturing the stack trace, which is most of the cost of creating the exception.
+     *
+     * @param message A description of the error
+     * @param writableStackTrace False to leave the stack trace empty
+     */
+    public MalformedNumberException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
+
 }
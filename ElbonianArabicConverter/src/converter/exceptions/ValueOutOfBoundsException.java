@@ -17,4 +17,15 @@ public class ValueOutOfBoundsException extends Exception {
         super(message);
     }
 
+    /**
+     * Constructor for callers that reject many values and do not need to know where they were rejected:
+     * with writableStackTrace false the stack trace is never captured.
+     *
+     * @param message A description of the error
+     * @param writableStackTrace False to leave the stack trace empty
+     */
+    public ValueOutOfBoundsException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
+
 }
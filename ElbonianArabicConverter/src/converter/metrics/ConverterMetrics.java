@@ -0,0 +1,146 @@
+package converter.metrics;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of the ElbonianArabicConverter hot paths: the constructor, toArabic() and
+ * toElbonian(). For each operation it counts calls, records latencies in a lock free histogram and counts
+ * failures by exception type. The counters can be pulled with snapshot() or read over JMX.
+ *
+ * Instrumentation is turned on by starting the JVM with -Delbonian.metrics=true. ENABLED is a constant, so
+ * when instrumentation is off the JIT removes the checks from the converter entirely.
+ *
+ * @version 10/18/26
+ */
+public final class ConverterMetrics implements ConverterMetricsMXBean {
+
+    //True if the JVM was started with -Delbonian.metrics=true
+    public static final boolean ENABLED = Boolean.getBoolean("elbonian.metrics");
+
+    //The name the MXBean is registered under
+    public static final String OBJECT_NAME = "converter:type=ConverterMetrics";
+
+    /**
+     * The instrumented operations.
+     */
+    public enum Operation {
+        PARSE, TO_ARABIC, TO_ELBONIAN
+    }
+
+    private static final ConverterMetrics INSTANCE = new ConverterMetrics();
+
+    static {
+        if (ENABLED) {
+            register();
+        }
+    }
+
+    private final LongAdder[] counts = new LongAdder[Operation.values().length];
+    private final LongAdder[] malformed = new LongAdder[Operation.values().length];
+    private final LongAdder[] outOfBounds = new LongAdder[Operation.values().length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[Operation.values().length];
+
+    private ConverterMetrics() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+            malformed[i] = new LongAdder();
+            outOfBounds[i] = new LongAdder();
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Records a call that completed normally.
+     *
+     * @param operation The operation that was called
+     * @param startNanos The System.nanoTime() taken when the call started
+     */
+    public static void record(Operation operation, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        INSTANCE.counts[operation.ordinal()].increment();
+        INSTANCE.latencies[operation.ordinal()].record(elapsed);
+    }
+
+    /**
+     * Records a call that threw.
+     *
+     * @param operation The operation that was called
+     * @param failure The exception it threw
+     */
+    public static void failed(Operation operation, Exception failure) {
+        INSTANCE.counts[operation.ordinal()].increment();
+        if (failure instanceof MalformedNumberException) {
+            INSTANCE.malformed[operation.ordinal()].increment();
+        } else if (failure instanceof ValueOutOfBoundsException) {
+            INSTANCE.outOfBounds[operation.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Returns the current counters of one operation.
+     *
+     * @param operation The operation
+     * @return A snapshot of its counters
+     */
+    public static OperationSnapshot snapshot(Operation operation) {
+        int i = operation.ordinal();
+        return new OperationSnapshot(operation.name(), INSTANCE.counts[i].sum(), INSTANCE.malformed[i].sum(),
+                INSTANCE.outOfBounds[i].sum(), INSTANCE.latencies[i].counts());
+    }
+
+    /**
+     * Sets every counter back to zero.
+     */
+    public static void resetAll() {
+        for (int i = 0; i < INSTANCE.counts.length; i++) {
+            INSTANCE.counts[i].reset();
+            INSTANCE.malformed[i].reset();
+            INSTANCE.outOfBounds[i].reset();
+            INSTANCE.latencies[i].reset();
+        }
+    }
+
+    /**
+     * Registers the MXBean with the platform MBean server. This happens on its own when instrumentation is
+     * turned on; calling it again does nothing.
+     */
+    public static synchronized void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+        }
+    }
+
+    @Override
+    public OperationSnapshot getParse() {
+        return snapshot(Operation.PARSE);
+    }
+
+    @Override
+    public OperationSnapshot getToArabic() {
+        return snapshot(Operation.TO_ARABIC);
+    }
+
+    @Override
+    public OperationSnapshot getToElbonian() {
+        return snapshot(Operation.TO_ELBONIAN);
+    }
+
+    @Override
+    public void reset() {
+        resetAll();
+    }
+
+}
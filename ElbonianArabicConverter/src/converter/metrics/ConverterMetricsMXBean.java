@@ -0,0 +1,31 @@
+package converter.metrics;
+
+/**
+ * The JMX view of ConverterMetrics, registered as converter:type=ConverterMetrics when instrumentation
+ * is turned on.
+ *
+ * @version 10/18/26
+ */
+public interface ConverterMetricsMXBean {
+
+    /**
+     * @return The counters of the ElbonianArabicConverter constructor
+     */
+    OperationSnapshot getParse();
+
+    /**
+     * @return The counters of ElbonianArabicConverter.toArabic()
+     */
+    OperationSnapshot getToArabic();
+
+    /**
+     * @return The counters of ElbonianArabicConverter.toElbonian()
+     */
+    OperationSnapshot getToElbonian();
+
+    /**
+     * Sets every counter back to zero.
+     */
+    void reset();
+
+}
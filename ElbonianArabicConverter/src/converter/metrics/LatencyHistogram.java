@@ -0,0 +1,101 @@
+package converter.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free histogram of latencies in nanoseconds, laid out like HdrHistogram: values are grouped by
+ * powers of two and every group is split into 32 equal buckets, so any recorded value is known to within
+ * about 3%. Recording is one array index computation and one LongAdder increment, so threads that keep
+ * hitting the same bucket add to separate cells instead of contending on one counter. Values of 2^40 ns
+ * (about 18 minutes) or more are counted in the last bucket.
+ *
+ * @version 10/18/26
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos The latency in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        counts[bucket(nanos)].increment();
+    }
+
+    /**
+     * Forgets every recorded value. Values recorded while the reset runs may or may not be kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i].reset();
+        }
+    }
+
+    /**
+     * Returns the current percentiles of this histogram, for histograms kept outside ConverterMetrics.
+     *
+     * @param name The name reported by the snapshot
+     * @return A snapshot whose count is the number of recorded values
+     */
+    public OperationSnapshot snapshot(String name) {
+        long[] counts = counts();
+        long recorded = 0;
+        for (long bucket : counts) {
+            recorded += bucket;
+        }
+        return new OperationSnapshot(name, recorded, 0, 0, counts);
+    }
+
+    /**
+     * Copies the current bucket counts.
+     *
+     * @return One count per bucket
+     */
+    long[] counts() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts[i].sum();
+        }
+        return copy;
+    }
+
+    //Finds the bucket a value is counted in
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (nanos >>> shift) - SUB_BUCKETS;
+    }
+
+    //Returns the largest value counted in a bucket
+    static long highestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+}
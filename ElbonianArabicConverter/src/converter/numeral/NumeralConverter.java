@@ -0,0 +1,223 @@
+package converter.numeral;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts numbers to and from any NumeralSystem. The first time a system is asked for, its rules are compiled
+ * into two tables: the numeral for every value, and a trie over the system's characters whose nodes hold the
+ * value of the numeral that ends there. Compiling walks every sequence of symbols the rules allow, so the
+ * tables hold exactly the valid numerals; after that both directions are lookups, at the same speed for every
+ * system, and neither allocates.
+ *
+ * Compiling also checks that the rules make sense: every value from 1 to the largest one must have exactly one
+ * valid numeral, and no two numerals may be spelled the same.
+ *
+ * @version 10/18/26
+ */
+public final class NumeralConverter {
+
+    //Bound on the numerals and trie nodes of a system, so a badly defined one fails instead of filling the heap
+    private static final int MAX_SIZE = 1 << 20;
+
+    private static final ConcurrentHashMap<NumeralSystem, NumeralConverter> CONVERTERS = new ConcurrentHashMap<>();
+
+    private final NumeralSystem system;
+    private final byte[] column = new byte[128];
+    private final int alphabet;
+    private String[] numerals;
+    private int maxValue;
+    //next[node * alphabet + column] is the child of a trie node, or 0; the root is node 0
+    private int[] next;
+    //The value of the numeral spelled by the path to each node, or 0 if that path is only a prefix
+    private int[] values;
+    private int nodes = 1;
+    private int count;
+
+    private NumeralConverter(NumeralSystem system) {
+        this.system = system;
+        Arrays.fill(column, (byte) -1);
+        int characters = 0;
+        long largest = 0;
+        for (int i = 0; i < system.symbolCount(); i++) {
+            String symbol = system.symbol(i);
+            if (symbol.isEmpty() || system.weight(i) < 1 || system.maxRepetitions(i) < 1
+                    || (i > 0 && system.weight(i) >= system.weight(i - 1))) {
+                throw new IllegalArgumentException(system.displayName() + ": symbol " + i + " \"" + symbol
+                        + "\" must be non empty, repeat at least once and weigh less than the symbol before it");
+            }
+            for (int j = 0; j < symbol.length(); j++) {
+                char c = symbol.charAt(j);
+                if (c >= 128) {
+                    throw new IllegalArgumentException(system.displayName() + ": symbol \"" + symbol + "\" is not ASCII");
+                }
+                if (column[c] < 0) {
+                    column[c] = (byte) characters++;
+                }
+            }
+            largest += (long) system.weight(i) * system.maxRepetitions(i);
+        }
+        if (system.symbolCount() == 0 || largest >= MAX_SIZE) {
+            throw new IllegalArgumentException(system.displayName() + " must have symbols and values below " + MAX_SIZE);
+        }
+        alphabet = characters;
+        numerals = new String[(int) largest + 1];
+        next = new int[64 * alphabet];
+        values = new int[64];
+
+        enumerate(-1, 0, 0, 0, new StringBuilder());
+
+        while (maxValue + 1 < numerals.length && numerals[maxValue + 1] != null) {
+            maxValue++;
+        }
+        for (int value = maxValue + 1; value < numerals.length; value++) {
+            if (numerals[value] != null) {
+                throw new IllegalArgumentException(system.displayName() + " can write " + value + " but not "
+                        + (maxValue + 1));
+            }
+        }
+        numerals = Arrays.copyOf(numerals, maxValue + 1);
+        next = Arrays.copyOf(next, nodes * alphabet);
+        values = Arrays.copyOf(values, nodes);
+    }
+
+    /**
+     * Returns the converter for a system, compiling it the first time.
+     *
+     * @param system The numeral system
+     * @return The converter
+     * @throws IllegalArgumentException Thrown if the rules of the system are inconsistent.
+     */
+    public static NumeralConverter of(NumeralSystem system) {
+        return CONVERTERS.computeIfAbsent(system, NumeralConverter::new);
+    }
+
+    //Adds every numeral that can follow a run of times symbols with index last, ending at the given trie node
+    private void enumerate(int last, int times, int node, int value, StringBuilder numeral) {
+        for (int symbol = Math.max(last, 0); symbol < system.symbolCount(); symbol++) {
+            if (symbol == last && times == system.maxRepetitions(symbol)) {
+                continue;
+            }
+            if (symbol != last && last >= 0 && system.excludes(last, times, symbol)) {
+                continue;
+            }
+            int length = numeral.length();
+            String characters = system.symbol(symbol);
+            int child = node;
+            for (int i = 0; i < characters.length(); i++) {
+                child = child(child, column[characters.charAt(i)]);
+            }
+            numeral.append(characters);
+            int sum = value + system.weight(symbol);
+            add(sum, child, numeral);
+            enumerate(symbol, symbol == last ? times + 1 : 1, child, sum, numeral);
+            numeral.setLength(length);
+        }
+    }
+
+    //Records a valid numeral, which must be the only one for its value and the only meaning of its spelling
+    private void add(int value, int node, StringBuilder numeral) {
+        if (++count > MAX_SIZE) {
+            throw new IllegalArgumentException(system.displayName() + " has more than " + MAX_SIZE + " numerals");
+        }
+        if (values[node] != 0 || numerals[value] != null) {
+            throw new IllegalArgumentException(system.displayName() + " is ambiguous: " + numeral + " and "
+                    + (values[node] != 0 ? numerals[values[node]] : numerals[value]) + " clash");
+        }
+        values[node] = value;
+        numerals[value] = numeral.toString();
+    }
+
+    //Returns the child of a trie node, creating it if needed
+    private int child(int node, int character) {
+        int slot = node * alphabet + character;
+        if (next[slot] == 0) {
+            if (nodes == values.length) {
+                if (nodes == MAX_SIZE) {
+                    throw new IllegalArgumentException(system.displayName() + " needs more than " + MAX_SIZE + " trie nodes");
+                }
+                values = Arrays.copyOf(values, nodes * 2);
+                next = Arrays.copyOf(next, nodes * 2 * alphabet);
+            }
+            next[slot] = nodes++;
+        }
+        return next[slot];
+    }
+
+    /**
+     * @return The system this converter was compiled from
+     */
+    public NumeralSystem system() {
+        return system;
+    }
+
+    /**
+     * @return The largest value the system can write; every value from 1 up to it has a numeral
+     */
+    public int maxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the numeral for a value. The String is shared and is not created by this call.
+     *
+     * @param value The value to convert
+     * @return The numeral
+     * @throws ValueOutOfBoundsException Thrown if the system cannot write the value.
+     */
+    public String toNumeral(int value) throws ValueOutOfBoundsException {
+        if (value < 1 || value > maxValue) {
+            throw new ValueOutOfBoundsException("Value " + value + " cannot be represented in the "
+                    + system.displayName() + " number system.");
+        }
+        return numerals[value];
+    }
+
+    /**
+     * Returns the value of a numeral. The numeral must not contain any spaces.
+     *
+     * @param numeral The numeral to convert
+     * @return The value
+     * @throws MalformedNumberException Thrown if the numeral does not follow the rules of the system.
+     */
+    public int toArabic(CharSequence numeral) throws MalformedNumberException {
+        int value = valueOf(numeral, 0, numeral.length());
+        if (value < 0) {
+            throw new MalformedNumberException("\"" + numeral + "\" is not a valid " + system.displayName() + " numeral.");
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of a numeral held in part of a character sequence, without throwing.
+     *
+     * @param numeral The characters to read
+     * @param from The index of the first character of the numeral
+     * @param to The index after the last character of the numeral
+     * @return The value, or -1 if the characters are not a valid numeral
+     */
+    public int valueOf(CharSequence numeral, int from, int to) {
+        int node = 0;
+        for (int i = from; i < to; i++) {
+            char c = numeral.charAt(i);
+            int character = c < 128 ? column[c] : -1;
+            if (character < 0) {
+                return -1;
+            }
+            node = next[node * alphabet + character];
+            if (node == 0) {
+                return -1;
+            }
+        }
+        return values[node] == 0 ? -1 : values[node];
+    }
+
+    @Override
+    public String toString() {
+        return system.displayName() + " numerals 1 - " + maxValue;
+    }
+
+}
@@ -0,0 +1,54 @@
+package converter.numeral;
+
+/**
+ * The definition of an additive numeral system such as the Elbonian or Roman one. A numeral is a sequence of
+ * symbols written from the largest weight to the smallest, and its value is the sum of their weights. A symbol
+ * may be more than one character long, which is how subtractive forms such as the Roman "IV" are described.
+ *
+ * A system is only a table of rules; NumeralConverter compiles it into lookup tables once, so every system
+ * converts at the same speed.
+ *
+ * @version 10/18/26
+ */
+public interface NumeralSystem {
+
+    /**
+     * @return The name of the system, used in error messages
+     */
+    String displayName();
+
+    /**
+     * @return The number of symbols
+     */
+    int symbolCount();
+
+    /**
+     * @param index The index of a symbol; symbols are ordered from the largest weight to the smallest
+     * @return The characters of the symbol, all of them ASCII
+     */
+    String symbol(int index);
+
+    /**
+     * @param index The index of a symbol
+     * @return The value the symbol adds to a numeral
+     */
+    int weight(int index);
+
+    /**
+     * @param index The index of a symbol
+     * @return How many times in a row the symbol may appear
+     */
+    int maxRepetitions(int index);
+
+    /**
+     * Tells whether a symbol may not directly follow another one, on top of the ordering and repetition rules.
+     * The Elbonian system uses this to forbid "M" after "NNN", and the Roman one to forbid "C" after "CD".
+     *
+     * @param before The index of the symbol before
+     * @param times How many times in a row the symbol before appeared
+     * @param after The index of the symbol after it, which has a smaller weight
+     * @return True if the symbol after may not follow
+     */
+    boolean excludes(int before, int times, int after);
+
+}
@@ -0,0 +1,97 @@
+package converter.numeral;
+
+/**
+ * The numeral systems that come with the converter.
+ *
+ * @version 10/18/26
+ */
+public enum StandardSystems implements NumeralSystem {
+
+    /**
+     * N{0,3}M{0,2}D{0,3}C{0,2}Y{0,3}X{0,2}J{0,3}I{0,2} for 1 - 9999, where three of a group's larger symbol may
+     * not be followed by its smaller one.
+     */
+    ELBONIAN("Elbonian",
+            new String[]{"N", "M", "D", "C", "Y", "X", "J", "I"},
+            new int[]{3000, 1000, 300, 100, 30, 10, 3, 1},
+            new int[]{3, 2, 3, 2, 3, 2, 3, 2},
+            new String[][]{{"NNN", "M"}, {"DDD", "C"}, {"YYY", "X"}, {"JJJ", "I"}}),
+
+    /**
+     * Standard Roman numerals for 1 - 3999, with the subtractive forms CM, CD, XC, XL, IX and IV.
+     */
+    ROMAN("Roman",
+            new String[]{"M", "CM", "D", "CD", "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I"},
+            new int[]{1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1},
+            new int[]{3, 1, 1, 1, 3, 1, 1, 1, 3, 1, 1, 1, 3},
+            new String[][]{
+                    {"CM", "D"}, {"CM", "CD"}, {"CM", "C"}, {"D", "CD"}, {"CD", "C"},
+                    {"XC", "L"}, {"XC", "XL"}, {"XC", "X"}, {"L", "XL"}, {"XL", "X"},
+                    {"IX", "V"}, {"IX", "IV"}, {"IX", "I"}, {"V", "IV"}, {"IV", "I"}});
+
+    private final String displayName;
+    private final String[] symbols;
+    private final int[] weights;
+    private final int[] maxRepetitions;
+    //excluded[before][after] is the smallest run of before that after may not follow, or 0 if it always may
+    private final int[][] excluded;
+
+    StandardSystems(String displayName, String[] symbols, int[] weights, int[] maxRepetitions, String[][] exclusions) {
+        this.displayName = displayName;
+        this.symbols = symbols;
+        this.weights = weights;
+        this.maxRepetitions = maxRepetitions;
+        this.excluded = new int[symbols.length][symbols.length];
+        for (String[] exclusion : exclusions) {
+            //The first part is one symbol written some number of times in a row
+            for (int before = 0; before < symbols.length; before++) {
+                String symbol = symbols[before];
+                if (exclusion[0].length() % symbol.length() == 0
+                        && exclusion[0].equals(symbol.repeat(exclusion[0].length() / symbol.length()))) {
+                    excluded[before][indexOf(symbols, exclusion[1])] = exclusion[0].length() / symbol.length();
+                }
+            }
+        }
+    }
+
+    private static int indexOf(String[] symbols, String symbol) {
+        for (int i = 0; i < symbols.length; i++) {
+            if (symbols[i].equals(symbol)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown symbol " + symbol);
+    }
+
+    @Override
+    public String displayName() {
+        return displayName;
+    }
+
+    @Override
+    public int symbolCount() {
+        return symbols.length;
+    }
+
+    @Override
+    public String symbol(int index) {
+        return symbols[index];
+    }
+
+    @Override
+    public int weight(int index) {
+        return weights[index];
+    }
+
+    @Override
+    public int maxRepetitions(int index) {
+        return maxRepetitions[index];
+    }
+
+    @Override
+    public boolean excludes(int before, int times, int after) {
+        int run = excluded[before][after];
+        return run > 0 && times >= run;
+    }
+
+}
@@ -0,0 +1,197 @@
+package converter.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A ConversionServer that serves every connection on its own thread with plain blocking reads and writes.
+ * On a JVM with virtual threads (Java 21 and later) each connection gets a virtual thread, so the server
+ * scales to as many connections as the NIO server while keeping straight line code; on older JVMs it falls
+ * back to a cached pool of platform threads, which suits a few hundred connections.
+ *
+ * A connection's thread does not read more from the client until the responses it has converted are
+ * written, so a client that stops reading is pushed back on by TCP flow control.
+ *
+ * @version 10/18/26
+ */
+public class BlockingConversionServer implements ConversionServer {
+
+    //Size of the output buffer of each connection
+    private static final int OUTPUT_SIZE = 16 * 1024;
+
+    private final ServerSocketChannel server;
+    private final int maxLineLength;
+    private final ExecutorService executor;
+    private final boolean virtual;
+    private final Set<SocketChannel> open = ConcurrentHashMap.newKeySet();
+    private final Thread acceptor;
+    private volatile boolean closed;
+
+    /**
+     * Creates a server with the default line length.
+     *
+     * @param address The address to listen on; port 0 picks a free port
+     * @throws IOException Thrown if the address cannot be bound.
+     */
+    public BlockingConversionServer(InetSocketAddress address) throws IOException {
+        this(address, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Creates a server. It starts accepting connections when start() is called.
+     *
+     * @param address The address to listen on; port 0 picks a free port
+     * @param maxLineLength The longest line accepted, without its line break; longer lines are answered
+     * with an error
+     * @throws IOException Thrown if the address cannot be bound.
+     */
+    public BlockingConversionServer(InetSocketAddress address, int maxLineLength) throws IOException {
+        if (maxLineLength < 1) {
+            throw new IllegalArgumentException("maxLineLength must be positive: " + maxLineLength);
+        }
+        this.maxLineLength = maxLineLength;
+        this.server = ServerSocketChannel.open();
+        try {
+            server.bind(address, 1024);
+        } catch (IOException e) {
+            server.close();
+            throw e;
+        }
+        ExecutorService threads = virtualThreadExecutor();
+        this.virtual = threads != null;
+        this.executor = virtual ? threads : Executors.newCachedThreadPool(daemonThreads());
+        this.acceptor = new Thread(this::accept, "elbonian-blocking-acceptor");
+        acceptor.setDaemon(true);
+    }
+
+    /**
+     * Starts accepting connections.
+     *
+     * @return This server
+     */
+    public BlockingConversionServer start() {
+        acceptor.start();
+        return this;
+    }
+
+    /**
+     * Tells whether connections are served on virtual threads.
+     *
+     * @return True if the JVM supports virtual threads
+     */
+    public boolean usesVirtualThreads() {
+        return virtual;
+    }
+
+    @Override
+    public InetSocketAddress address() {
+        return (InetSocketAddress) server.socket().getLocalSocketAddress();
+    }
+
+    /**
+     * Stops accepting connections, closes every open connection and waits for their threads to end.
+     *
+     * @throws IOException Thrown if the listening socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        server.close();
+        try {
+            acceptor.join();
+            for (SocketChannel channel : open) {
+                closeQuietly(channel);
+            }
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void accept() {
+        while (!closed) {
+            try {
+                SocketChannel channel = server.accept();
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                open.add(channel);
+                executor.execute(() -> serve(channel));
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                //The connection went away before it was set up; keep accepting others
+            }
+        }
+    }
+
+    //Answers one client until it closes its side of the connection
+    private void serve(SocketChannel channel) {
+        LineConnection client = new LineConnection(maxLineLength, OUTPUT_SIZE);
+        try {
+            while (!client.ended) {
+                if (channel.read(client.in) < 0) {
+                    client.ended = true;
+                }
+                do {
+                    client.process();
+                    write(channel, client);
+                } while (client.blocked());
+            }
+            while (!client.finish()) {
+                write(channel, client);
+            }
+            write(channel, client);
+        } catch (IOException e) {
+            //The client went away; nothing is left to answer
+        } finally {
+            open.remove(channel);
+            closeQuietly(channel);
+        }
+    }
+
+    private static void write(SocketChannel channel, LineConnection client) throws IOException {
+        client.out.flip();
+        while (client.out.hasRemaining()) {
+            channel.write(client.out);
+        }
+        client.out.clear();
+    }
+
+    //Returns Executors.newVirtualThreadPerTaskExecutor(), or null on JVMs that have no virtual threads
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "elbonian-connection-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            //Nothing more can be done with it
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+package converter.server;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * A reactive stage that converts a stream of numbers. It subscribes to a publisher of numbers in either form
+ * and publishes one ConversionResult per number, in order, to a single subscriber.
+ *
+ * Every input gives exactly one result, so the processor passes its subscriber's demand straight upstream:
+ * it never requests more numbers than its subscriber has asked results for, and it never buffers. Demand
+ * signalled before the upstream subscription arrives is remembered and requested then.
+ *
+ * @version 10/18/26
+ */
+public class ConversionProcessor implements Flow.Processor<CharSequence, ConversionResult> {
+
+    private Flow.Subscription upstream;
+    private Flow.Subscriber<? super ConversionResult> downstream;
+    private long pendingDemand;
+    private boolean cancelled;
+    private boolean completed;
+    private Throwable failure;
+
+    /**
+     * Converts everything a publisher publishes.
+     *
+     * @param numbers The publisher of numbers
+     * @return A publisher of the results, which subscribes to numbers when it is subscribed to
+     */
+    public static Flow.Publisher<ConversionResult> convert(Flow.Publisher<? extends CharSequence> numbers) {
+        return subscriber -> {
+            ConversionProcessor processor = new ConversionProcessor();
+            processor.subscribe(subscriber);
+            numbers.subscribe(processor);
+        };
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ConversionResult> subscriber) {
+        Objects.requireNonNull(subscriber);
+        boolean accepted;
+        Throwable endedWith = null;
+        boolean endedNormally;
+        synchronized (this) {
+            accepted = downstream == null;
+            if (accepted) {
+                downstream = subscriber;
+            }
+            endedWith = failure;
+            endedNormally = completed;
+        }
+        if (!accepted) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("A ConversionProcessor has only one subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Demand());
+        if (endedWith != null) {
+            subscriber.onError(endedWith);
+        } else if (endedNormally) {
+            subscriber.onComplete();
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        long demand;
+        boolean reject;
+        synchronized (this) {
+            reject = upstream != null || cancelled;
+            if (!reject) {
+                upstream = subscription;
+            }
+            demand = pendingDemand;
+            pendingDemand = 0;
+        }
+        if (reject) {
+            subscription.cancel();
+        } else if (demand > 0) {
+            subscription.request(demand);
+        }
+    }
+
+    @Override
+    public void onNext(CharSequence number) {
+        Objects.requireNonNull(number);
+        Flow.Subscriber<? super ConversionResult> subscriber;
+        synchronized (this) {
+            subscriber = downstream;
+        }
+        //Upstream only sends what downstream asked for, so downstream is set by now
+        subscriber.onNext(ConversionResult.of(number));
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        Flow.Subscriber<? super ConversionResult> subscriber;
+        synchronized (this) {
+            failure = throwable;
+            subscriber = downstream;
+        }
+        if (subscriber != null) {
+            subscriber.onError(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        Flow.Subscriber<? super ConversionResult> subscriber;
+        synchronized (this) {
+            completed = true;
+            subscriber = downstream;
+        }
+        if (subscriber != null) {
+            subscriber.onComplete();
+        }
+    }
+
+    //The subscription handed to the subscriber; its demand is passed upstream
+    private final class Demand implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(new IllegalArgumentException("Requested " + n + " results; requests must be positive"));
+                return;
+            }
+            Flow.Subscription subscription;
+            synchronized (ConversionProcessor.this) {
+                if (cancelled) {
+                    return;
+                }
+                subscription = upstream;
+                if (subscription == null) {
+                    pendingDemand = pendingDemand + n < 0 ? Long.MAX_VALUE : pendingDemand + n;
+                }
+            }
+            if (subscription != null) {
+                subscription.request(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            Flow.Subscription subscription;
+            synchronized (ConversionProcessor.this) {
+                cancelled = true;
+                subscription = upstream;
+            }
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+
+}
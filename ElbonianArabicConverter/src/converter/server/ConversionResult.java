@@ -0,0 +1,90 @@
+package converter.server;
+
+import converter.ElbonianNumber;
+import converter.ParseResult;
+
+/**
+ * The outcome of converting one number, as published by ConversionProcessor: either the parsed number or
+ * the reason the input was rejected. Rejected inputs are results like any other rather than stream errors,
+ * so one bad number does not end a pipeline.
+ *
+ * @version 10/18/26
+ */
+public final class ConversionResult {
+
+    private final String input;
+    private final ElbonianNumber number;
+    private final boolean arabic;
+    private final String error;
+
+    private ConversionResult(String input, ElbonianNumber number, boolean arabic, String error) {
+        this.input = input;
+        this.number = number;
+        this.arabic = arabic;
+        this.error = error;
+    }
+
+    /**
+     * Converts a number with the same rules as the ElbonianArabicConverter constructor.
+     *
+     * @param input The number to convert, in either form
+     * @return The result
+     */
+    public static ConversionResult of(CharSequence input) {
+        String text = input.toString();
+        long result = ElbonianNumber.tryParse(text);
+        if (!ParseResult.isSuccess(result)) {
+            return new ConversionResult(text, null, false, ParseResult.message(result, text));
+        }
+        char first = text.trim().charAt(0);
+        return new ConversionResult(text, ElbonianNumber.valueOf(ParseResult.value(result)),
+                first == '-' || (first >= '0' && first <= '9'), null);
+    }
+
+    /**
+     * @return The input, as it was received
+     */
+    public String input() {
+        return input;
+    }
+
+    /**
+     * @return True if the input was a valid number
+     */
+    public boolean isSuccess() {
+        return number != null;
+    }
+
+    /**
+     * @return The parsed number, or null if the input was rejected
+     */
+    public ElbonianNumber number() {
+        return number;
+    }
+
+    /**
+     * @return The reason the input was rejected, or null if it was a valid number
+     */
+    public String error() {
+        return error;
+    }
+
+    /**
+     * Returns what the line protocol answers for the input: the number in the other form, or "ERR " followed
+     * by the reason it was rejected.
+     *
+     * @return The response line, without a line break
+     */
+    public String response() {
+        if (number == null) {
+            return "ERR " + error;
+        }
+        return arabic ? number.toElbonian() : Integer.toString(number.toArabic());
+    }
+
+    @Override
+    public String toString() {
+        return response();
+    }
+
+}
@@ -0,0 +1,26 @@
+package converter.server;
+
+import java.io.Closeable;
+import java.net.InetSocketAddress;
+
+/**
+ * A network service that converts numbers over a line protocol. The client sends one number per line, in
+ * either form and with the same rules as the ElbonianArabicConverter constructor. For every line the server
+ * answers, in order, with one line holding the number in the other form, or "ERR " followed by the reason
+ * the line could not be converted. Lines may end with "\n" or "\r\n".
+ *
+ * @version 10/18/26
+ */
+public interface ConversionServer extends Closeable {
+
+    //Default longest line accepted, without its line break
+    int DEFAULT_MAX_LINE_LENGTH = 256;
+
+    /**
+     * Returns the address the server listens on, with the actual port if it was bound to port 0.
+     *
+     * @return The bound address
+     */
+    InetSocketAddress address();
+
+}
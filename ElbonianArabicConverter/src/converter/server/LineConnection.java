@@ -0,0 +1,153 @@
+package converter.server;
+
+import converter.ElbonianNumber;
+import converter.ParseResult;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The protocol state of one client connection, shared by both servers. Bytes read from the client are put
+ * in the input buffer; process() converts every complete line into the output buffer, which the server
+ * then writes back to the client.
+ *
+ * A line is converted only while the output buffer has room for the longest response. When it does not,
+ * the rest of the input stays where it is and blocked() is true until the server has written some output,
+ * so a client that does not read its responses stops being read from instead of making the server buffer
+ * without limit.
+ *
+ * @version 10/18/26
+ */
+final class LineConnection {
+
+    //Room kept free in the output buffer for one response
+    static final int MAX_RESPONSE = 512;
+
+    final ByteBuffer in;
+    final ByteBuffer out;
+    private final int maxLineLength;
+
+    //Set by the server once the client has closed its side of the connection
+    boolean ended;
+
+    private boolean discarding;
+    private boolean blocked;
+
+    /**
+     * @param maxLineLength The longest line accepted, without its line break
+     * @param outputSize The size of the output buffer
+     */
+    LineConnection(int maxLineLength, int outputSize) {
+        this.maxLineLength = maxLineLength;
+        this.in = ByteBuffer.allocate(maxLineLength + 1);
+        this.out = ByteBuffer.allocate(Math.max(outputSize, MAX_RESPONSE));
+    }
+
+    /**
+     * Converts the complete lines in the input buffer and moves what is left to its start.
+     */
+    void process() {
+        int start = 0;
+        int end = in.position();
+        blocked = false;
+        for (int i = 0; i < end; i++) {
+            if (in.get(i) == '\n') {
+                if (out.remaining() < MAX_RESPONSE) {
+                    blocked = true;
+                    break;
+                }
+                if (discarding) {
+                    discarding = false;
+                } else {
+                    respond(start, i);
+                }
+                start = i + 1;
+            }
+        }
+
+        if (start == 0 && !in.hasRemaining() && !blocked) {
+            //The buffer is full and holds no line break; answer once and drop the line as it arrives
+            if (out.remaining() < MAX_RESPONSE) {
+                blocked = true;
+                return;
+            }
+            if (!discarding) {
+                error("Line is longer than " + maxLineLength + " bytes.");
+                discarding = true;
+            }
+            start = end;
+        }
+        in.limit(end).position(start);
+        in.compact();
+    }
+
+    /**
+     * Converts a last line that was not ended by a line break, once the client has closed its side.
+     *
+     * @return False if the output buffer has no room yet and finish() must be called again
+     */
+    boolean finish() {
+        if (in.position() > 0 && !discarding) {
+            if (out.remaining() < MAX_RESPONSE) {
+                return false;
+            }
+            respond(0, in.position());
+        }
+        in.clear();
+        discarding = false;
+        return true;
+    }
+
+    /**
+     * Tells whether the last call to process() left complete lines unconverted for lack of output space.
+     *
+     * @return True if process() must be called again once output has been written
+     */
+    boolean blocked() {
+        return blocked;
+    }
+
+    //Converts one line, given without its line break
+    private void respond(int from, int to) {
+        if (to > from && in.get(to - 1) == '\r') {
+            to--;
+        }
+        long result = ElbonianNumber.tryParse(in, from, to - from);
+        if (!ParseResult.isSuccess(result)) {
+            //Parse the line again on its own so the message gives indexes within the line
+            String line = new String(in.array(), from, to - from, StandardCharsets.ISO_8859_1);
+            error(ParseResult.message(ElbonianNumber.tryParse(line), line));
+            return;
+        }
+        ElbonianNumber number = ElbonianNumber.valueOf(ParseResult.value(result));
+        if (isArabic(from)) {
+            number.appendTo(out);
+        } else {
+            putArabic(number.toArabic());
+        }
+        out.put((byte) '\n');
+    }
+
+    //Writes an error response, cut short if the message is very long
+    private void error(String message) {
+        byte[] bytes = ("ERR " + message).getBytes(StandardCharsets.UTF_8);
+        out.put(bytes, 0, Math.min(bytes.length, MAX_RESPONSE - 1));
+        out.put((byte) '\n');
+    }
+
+    //Tells whether an already parsed line holds an Arabic number
+    private boolean isArabic(int from) {
+        while (in.get(from) == ' ') {
+            from++;
+        }
+        byte first = in.get(from);
+        return first == '-' || (first >= '0' && first <= '9');
+    }
+
+    private void putArabic(int value) {
+        for (int divisor = value >= 1000 ? 1000 : value >= 100 ? 100 : value >= 10 ? 10 : 1; divisor > 0; divisor /= 10) {
+            out.put((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+}
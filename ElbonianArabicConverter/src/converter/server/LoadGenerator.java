@@ -0,0 +1,284 @@
+package converter.server;
+
+import converter.ElbonianNumber;
+import converter.metrics.LatencyHistogram;
+import converter.metrics.OperationSnapshot;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A client that sends conversion requests to a ConversionServer at a fixed rate and reports the latency
+ * percentiles of the responses.
+ *
+ * The load is open loop: every request has a send time fixed in advance by the target rate, and its latency
+ * is measured from that time rather than from when it was actually sent. A server that falls behind
+ * therefore shows up as growing latency instead of as a quietly lower request rate.
+ *
+ * Requests are spread evenly over a number of connections. Each connection has a thread that sends and a
+ * thread that reads; since responses come back in request order, the reader knows the send time of every
+ * response without any shared bookkeeping.
+ *
+ * @version 10/18/26
+ */
+public class LoadGenerator {
+
+    //Number of different requests cycled through; half are Arabic and half Elbonian
+    private static final int REQUESTS = 4096;
+
+    private final InetSocketAddress address;
+    private final int connections;
+    private final int requestsPerSecond;
+    private final byte[][] requests;
+
+    /**
+     * Creates a load generator.
+     *
+     * @param address The address of the server
+     * @param connections The number of connections to spread the requests over
+     * @param requestsPerSecond The target rate, over all connections
+     */
+    public LoadGenerator(InetSocketAddress address, int connections, int requestsPerSecond) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("connections must be positive: " + connections);
+        }
+        if (requestsPerSecond < 1) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive: " + requestsPerSecond);
+        }
+        this.address = address;
+        this.connections = connections;
+        this.requestsPerSecond = requestsPerSecond;
+        this.requests = new byte[REQUESTS][];
+        SplittableRandom random = new SplittableRandom(3733);
+        for (int i = 0; i < REQUESTS; i++) {
+            ElbonianNumber number = ElbonianNumber.valueOf(random.nextInt(ElbonianNumber.MIN_VALUE, ElbonianNumber.MAX_VALUE + 1));
+            String line = (i % 2 == 0 ? Integer.toString(number.toArabic()) : number.toElbonian()) + "\n";
+            requests[i] = line.getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * Sends requests for a while and waits for all of their responses.
+     *
+     * @param duration How long to send requests for
+     * @param unit The unit of duration
+     * @return The latencies and counts of the run
+     * @throws IOException Thrown if a connection cannot be opened or fails during the run.
+     * @throws InterruptedException Thrown if the calling thread is interrupted while waiting.
+     */
+    public Report run(long duration, TimeUnit unit) throws IOException, InterruptedException {
+        long total = Math.max(1, unit.toNanos(duration) * requestsPerSecond / TimeUnit.SECONDS.toNanos(1));
+        long interval = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        LatencyHistogram latencies = new LatencyHistogram();
+        AtomicLong errors = new AtomicLong();
+        IOException[] failure = new IOException[1];
+
+        SocketChannel[] channels = new SocketChannel[connections];
+        Thread[] threads = new Thread[connections * 2];
+        try {
+            for (int c = 0; c < connections; c++) {
+                channels[c] = SocketChannel.open(address);
+                channels[c].setOption(StandardSocketOptions.TCP_NODELAY, true);
+            }
+            long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+            for (int c = 0; c < connections; c++) {
+                //Connection c sends requests c, c + connections, c + 2 * connections...
+                long count = (total - c + connections - 1) / connections;
+                Connection connection = new Connection(channels[c], c, count, start, interval, latencies, errors);
+                threads[2 * c] = new Thread(() -> connection.run(true, failure), "elbonian-load-send-" + c);
+                threads[2 * c + 1] = new Thread(() -> connection.run(false, failure), "elbonian-load-read-" + c);
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            long elapsed = System.nanoTime() - start;
+            synchronized (failure) {
+                if (failure[0] != null) {
+                    throw failure[0];
+                }
+            }
+            return new Report(latencies.snapshot("latency"), errors.get(), total * 1e9 / elapsed);
+        } finally {
+            for (SocketChannel channel : channels) {
+                if (channel != null) {
+                    channel.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a load test against a server on this machine and prints the report.
+     * Arguments: requestsPerSecond [seconds [connections [port]]]. Without a port, a NioConversionServer is
+     * started on a free port for the run.
+     *
+     * @param args The arguments
+     * @throws Exception Thrown if the run fails.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("usage: LoadGenerator requestsPerSecond [seconds [connections [port]]]");
+            System.exit(2);
+        }
+        int rate = Integer.parseInt(args[0]);
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        ConversionServer server = null;
+        InetSocketAddress address;
+        if (args.length > 3) {
+            address = new InetSocketAddress("localhost", Integer.parseInt(args[3]));
+        } else {
+            server = new NioConversionServer(new InetSocketAddress("localhost", 0)).start();
+            address = server.address();
+        }
+        try {
+            System.out.println(new LoadGenerator(address, connections, rate).run(seconds, TimeUnit.SECONDS));
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    /**
+     * The outcome of a run.
+     */
+    public static final class Report {
+
+        private final OperationSnapshot latency;
+        private final long errors;
+        private final double rate;
+
+        Report(OperationSnapshot latency, long errors, double rate) {
+            this.latency = latency;
+            this.errors = errors;
+            this.rate = rate;
+        }
+
+        /**
+         * @return The latency percentiles; the count is the number of responses
+         */
+        public OperationSnapshot latency() {
+            return latency;
+        }
+
+        /**
+         * @return The number of responses that were errors
+         */
+        public long errors() {
+            return errors;
+        }
+
+        /**
+         * @return The number of requests answered per second over the whole run
+         */
+        public double rate() {
+            return rate;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("responses=%d errors=%d rate=%.0f/s p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus",
+                    latency.getCount(), errors, rate, latency.getP50Nanos() / 1e3, latency.getP99Nanos() / 1e3,
+                    latency.getP999Nanos() / 1e3, latency.getMaxNanos() / 1e3);
+        }
+    }
+
+    //The requests of one connection and the schedule they are sent on
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final int index;
+        private final long count;
+        private final long start;
+        private final long interval;
+        private final LatencyHistogram latencies;
+        private final AtomicLong errors;
+
+        Connection(SocketChannel channel, int index, long count, long start, long interval,
+                   LatencyHistogram latencies, AtomicLong errors) {
+            this.channel = channel;
+            this.index = index;
+            this.count = count;
+            this.start = start;
+            this.interval = interval;
+            this.latencies = latencies;
+            this.errors = errors;
+        }
+
+        //The time request k of this connection is due
+        private long due(long k) {
+            return start + (k * connections + index) * interval;
+        }
+
+        void run(boolean send, IOException[] failure) {
+            try {
+                if (send) {
+                    send();
+                } else {
+                    receive();
+                }
+            } catch (IOException e) {
+                synchronized (failure) {
+                    if (failure[0] == null) {
+                        failure[0] = e;
+                    }
+                }
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    //Already failing
+                }
+            }
+        }
+
+        private void send() throws IOException {
+            for (long k = 0; k < count; k++) {
+                long wait = due(k) - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                ByteBuffer request = ByteBuffer.wrap(requests[(int) ((k * connections + index) % REQUESTS)]);
+                while (request.hasRemaining()) {
+                    channel.write(request);
+                }
+            }
+        }
+
+        private void receive() throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            long k = 0;
+            boolean lineStart = true;
+            while (k < count) {
+                buffer.clear();
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    throw new IOException("The server closed the connection after " + k + " of " + count + " responses");
+                }
+                long now = System.nanoTime();
+                for (int i = 0; i < read; i++) {
+                    byte b = buffer.get(i);
+                    if (lineStart && b == 'E') {
+                        errors.incrementAndGet();
+                    }
+                    lineStart = b == '\n';
+                    if (lineStart) {
+                        latencies.record(now - due(k++));
+                    }
+                }
+            }
+        }
+    }
+
+}
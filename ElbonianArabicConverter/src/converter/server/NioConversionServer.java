@@ -0,0 +1,251 @@
+package converter.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A ConversionServer built on non-blocking NIO. An acceptor thread hands new connections in turn to a fixed
+ * number of event loops, and each event loop serves all of its connections from one Selector, so tens of
+ * thousands of idle or slow connections cost memory for their buffers but no threads.
+ *
+ * A connection is only read from while its responses fit in its output buffer. Once a client stops reading,
+ * its event loop stops reading from it as well, and TCP flow control pushes back on the client.
+ *
+ * @version 10/18/26
+ */
+public class NioConversionServer implements ConversionServer {
+
+    //Size of the output buffer of each connection
+    private static final int OUTPUT_SIZE = 16 * 1024;
+
+    private final ServerSocketChannel server;
+    private final int maxLineLength;
+    private final EventLoop[] loops;
+    private final Thread acceptor;
+    private volatile boolean closed;
+
+    /**
+     * Creates a server with one event loop per processor and the default line length.
+     *
+     * @param address The address to listen on; port 0 picks a free port
+     * @throws IOException Thrown if the address cannot be bound.
+     */
+    public NioConversionServer(InetSocketAddress address) throws IOException {
+        this(address, Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Creates a server. It starts accepting connections when start() is called.
+     *
+     * @param address The address to listen on; port 0 picks a free port
+     * @param eventLoops The number of threads serving connections
+     * @param maxLineLength The longest line accepted, without its line break; longer lines are answered
+     * with an error
+     * @throws IOException Thrown if the address cannot be bound.
+     */
+    public NioConversionServer(InetSocketAddress address, int eventLoops, int maxLineLength) throws IOException {
+        if (eventLoops < 1) {
+            throw new IllegalArgumentException("eventLoops must be positive: " + eventLoops);
+        }
+        if (maxLineLength < 1) {
+            throw new IllegalArgumentException("maxLineLength must be positive: " + maxLineLength);
+        }
+        this.maxLineLength = maxLineLength;
+        this.server = ServerSocketChannel.open();
+        try {
+            server.bind(address, 1024);
+            loops = new EventLoop[eventLoops];
+            for (int i = 0; i < eventLoops; i++) {
+                loops[i] = new EventLoop(Selector.open());
+            }
+        } catch (IOException e) {
+            server.close();
+            throw e;
+        }
+        acceptor = new Thread(this::accept, "elbonian-nio-acceptor");
+        acceptor.setDaemon(true);
+    }
+
+    /**
+     * Starts accepting connections.
+     *
+     * @return This server
+     */
+    public NioConversionServer start() {
+        for (int i = 0; i < loops.length; i++) {
+            Thread thread = new Thread(loops[i], "elbonian-nio-" + i);
+            thread.setDaemon(true);
+            loops[i].thread = thread;
+            thread.start();
+        }
+        acceptor.start();
+        return this;
+    }
+
+    @Override
+    public InetSocketAddress address() {
+        return (InetSocketAddress) server.socket().getLocalSocketAddress();
+    }
+
+    /**
+     * Stops accepting connections, closes every open connection and waits for the server threads to end.
+     *
+     * @throws IOException Thrown if the listening socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        server.close();
+        for (EventLoop loop : loops) {
+            loop.selector.wakeup();
+        }
+        try {
+            join(acceptor);
+            for (EventLoop loop : loops) {
+                join(loop.thread);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void join(Thread thread) throws InterruptedException {
+        if (thread != null && thread.isAlive()) {
+            thread.join();
+        }
+    }
+
+    //Accepts connections and deals them out to the event loops in turn
+    private void accept() {
+        int next = 0;
+        while (!closed) {
+            try {
+                SocketChannel channel = server.accept();
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                loops[next].add(channel);
+                next = (next + 1) % loops.length;
+            } catch (AsynchronousCloseException e) {
+                return;
+            } catch (IOException e) {
+                //The connection went away before it was set up; keep accepting others
+            }
+        }
+    }
+
+    //Serves a share of the connections from one thread
+    private final class EventLoop implements Runnable {
+
+        private final Selector selector;
+        private final Queue<SocketChannel> added = new ConcurrentLinkedQueue<>();
+        private Thread thread;
+
+        EventLoop(Selector selector) {
+            this.selector = selector;
+        }
+
+        void add(SocketChannel channel) {
+            added.add(channel);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    selector.select();
+                    register();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        try {
+                            if (key.isReadable()) {
+                                read(key);
+                            }
+                            serve(key);
+                        } catch (IOException e) {
+                            close(key);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                //The selector failed; drop this loop's connections below
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    close(key);
+                }
+                for (SocketChannel channel : added) {
+                    closeQuietly(channel);
+                }
+                closeQuietly(selector);
+            }
+        }
+
+        private void register() throws IOException {
+            SocketChannel channel;
+            while ((channel = added.poll()) != null) {
+                channel.register(selector, SelectionKey.OP_READ, new LineConnection(maxLineLength, OUTPUT_SIZE));
+            }
+        }
+
+        private void read(SelectionKey key) throws IOException {
+            LineConnection client = (LineConnection) key.attachment();
+            if (((SocketChannel) key.channel()).read(client.in) < 0) {
+                client.ended = true;
+            }
+        }
+
+        //Converts what can be converted, writes what can be written and decides what to wait for next
+        private void serve(SelectionKey key) throws IOException {
+            SocketChannel channel = (SocketChannel) key.channel();
+            LineConnection client = (LineConnection) key.attachment();
+            boolean finished;
+            boolean drained;
+            do {
+                client.process();
+                finished = client.ended && !client.blocked() && client.finish();
+                client.out.flip();
+                channel.write(client.out);
+                drained = !client.out.hasRemaining();
+                client.out.compact();
+                //Go round again while everything was written but a line still waits for room: complete lines
+                //process() left behind, or the last line of a connection the client has closed
+            } while (drained && (client.blocked() || (client.ended && !finished)));
+
+            if (finished && drained) {
+                close(key);
+                return;
+            }
+            int interest = drained ? 0 : SelectionKey.OP_WRITE;
+            if (!client.ended && !client.blocked()) {
+                interest |= SelectionKey.OP_READ;
+            }
+            key.interestOps(interest);
+        }
+
+        private void close(SelectionKey key) {
+            key.cancel();
+            closeQuietly(key.channel());
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            //Nothing more can be done with it
+        }
+    }
+
+}
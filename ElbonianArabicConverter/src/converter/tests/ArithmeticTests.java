@@ -0,0 +1,159 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianArithmetic;
+import converter.ElbonianNumber;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for ElbonianArithmetic and ElbonianNumber.plus() and minus().
+ */
+public class ArithmeticTests {
+
+    @Test
+    public void packedMatchesIntegers() throws ValueOutOfBoundsException {
+        Random random = new Random(20);
+        for (int a = 1; a <= 9999; a++) {
+            int packed = ElbonianArithmetic.pack(a);
+            assertEquals(a, ElbonianArithmetic.value(packed));
+            assertEquals(Integer.parseInt(Integer.toHexString(packed)), a);
+            for (int i = 0; i < 20; i++) {
+                int b = 1 + random.nextInt(9999);
+                int otherPacked = ElbonianArithmetic.pack(b);
+                assertEquals(Integer.signum(Integer.compare(a, b)), Integer.signum(Integer.compare(packed, otherPacked)));
+                if (a + b <= 9999) {
+                    assertEquals(a + b, ElbonianArithmetic.value(ElbonianArithmetic.addPacked(packed, otherPacked)));
+                } else {
+                    assertOutOfBounds(packed, otherPacked, true);
+                }
+                if (a > b) {
+                    assertEquals(a - b, ElbonianArithmetic.value(ElbonianArithmetic.subtractPacked(packed, otherPacked)));
+                } else {
+                    assertOutOfBounds(packed, otherPacked, false);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void numerals() throws MalformedNumberException, ValueOutOfBoundsException {
+        //Three I make a J, and a group that passes 9 carries into the next one
+        assertEquals("JJ", ElbonianArithmetic.add("JII", "I"));
+        assertEquals("X", ElbonianArithmetic.add("JJJ", "I"));
+        assertEquals("M", ElbonianArithmetic.add("DDDYYYJJJ", "I"));
+        assertEquals("DDDYYYJJJ", ElbonianArithmetic.subtract("M", "I"));
+        assertEquals("I", ElbonianArithmetic.subtract("NNNDDDYYYJJJ", "NNNDDDYYYJJII"));
+        assertTrue(ElbonianArithmetic.compare("Y", "XXJJJ") > 0);
+        assertEquals(0, ElbonianArithmetic.compare("NDDYY", "NDDYY"));
+        assertSame(ElbonianArabicConverter.toElbonian(29), ElbonianArithmetic.min("Y", "XXJJJ"));
+        assertEquals("Y", ElbonianArithmetic.max("Y", "XXJJJ"));
+    }
+
+    @Test
+    public void overflow() throws MalformedNumberException {
+        try {
+            ElbonianArithmetic.add("NNNDDDYYYJJJ", "I");
+            fail("Expected a ValueOutOfBoundsException");
+        } catch (ValueOutOfBoundsException e) {
+            assertEquals("Numbers larger than 9999 cannot be represented in the Elbonian number system.", e.getMessage());
+        }
+        try {
+            ElbonianArithmetic.subtract("X", "X");
+            fail("Expected a ValueOutOfBoundsException");
+        } catch (ValueOutOfBoundsException e) {
+            assertEquals("Zero cannot be represented in the Elbonian number system.", e.getMessage());
+        }
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void malformedOperand() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArithmetic.add("IIII", "I");
+    }
+
+    @Test
+    public void sums() throws ValueOutOfBoundsException, MalformedNumberException {
+        Random random = new Random(2020);
+        List<String> numerals = new ArrayList<>();
+        long total = 0;
+        for (int i = 0; i < 100000; i++) {
+            int value = 1 + random.nextInt(3);
+            numerals.add(ElbonianArabicConverter.toElbonian(value));
+            total += value;
+        }
+        try {
+            ElbonianArithmetic.parallelSum(numerals);
+            fail("Expected a ValueOutOfBoundsException");
+        } catch (ValueOutOfBoundsException e) {
+            assertTrue(total > 9999);
+        }
+        assertEquals(total, ElbonianArithmetic.total(numerals));
+        assertEquals(total, ElbonianArithmetic.parallelTotal(numerals));
+        List<String> small = numerals.subList(0, 4000);
+        long smallTotal = 0;
+        for (String numeral : small) {
+            smallTotal += ElbonianArabicConverter.toArabic(numeral);
+        }
+        assertEquals(ElbonianArabicConverter.toElbonian((int) smallTotal), ElbonianArithmetic.sum(small));
+        assertEquals(ElbonianArithmetic.sum(small), ElbonianArithmetic.parallelSum(small, new ForkJoinPool(4)));
+        assertEquals("JI", ElbonianArithmetic.sum("I", "J"));
+    }
+
+    @Test
+    public void firstMalformedNumeralIsReported() throws ValueOutOfBoundsException {
+        List<String> numerals = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            numerals.add(i == 30000 || i == 40000 ? "IJ" : "I");
+        }
+        try {
+            ElbonianArithmetic.parallelSum(numerals);
+            fail("Expected a MalformedNumberException");
+        } catch (MalformedNumberException e) {
+            assertEquals("\"IJ\" at index 30000 is not a valid Elbonian numeral.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void numberPlusMinus() throws ValueOutOfBoundsException {
+        ElbonianNumber a = ElbonianNumber.valueOf(9000);
+        assertSame(ElbonianNumber.valueOf(9999), a.plus(ElbonianNumber.valueOf(999)));
+        assertSame(ElbonianNumber.valueOf(8001), a.minus(ElbonianNumber.valueOf(999)));
+        try {
+            a.plus(ElbonianNumber.valueOf(1000));
+            fail("Expected a ValueOutOfBoundsException");
+        } catch (ValueOutOfBoundsException e) {
+            assertEquals("Numbers larger than 9999 cannot be represented in the Elbonian number system.", e.getMessage());
+        }
+        try {
+            a.minus(ElbonianNumber.valueOf(9001));
+            fail("Expected a ValueOutOfBoundsException");
+        } catch (ValueOutOfBoundsException e) {
+            assertEquals("Negative numbers cannot be represented in the Elbonian number system.", e.getMessage());
+        }
+    }
+
+    private static void assertOutOfBounds(int a, int b, boolean add) {
+        try {
+            if (add) {
+                ElbonianArithmetic.addPacked(a, b);
+            } else {
+                ElbonianArithmetic.subtractPacked(a, b);
+            }
+            fail("Expected a ValueOutOfBoundsException");
+        } catch (ValueOutOfBoundsException e) {
+            //Expected
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package converter.tests;
+
+import converter.ElbonianBatchConverter;
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ElbonianBatchConverter class.
+ */
+public class BatchConverterTests {
+
+    @Test
+    public void packArray() {
+        int[] values = {1, 0, 9999, 3660, 10000};
+        char[] out = new char[ElbonianBatchConverter.maxLength(values.length)];
+        int[] offsets = new int[values.length + 1];
+        BitSet errors = new BitSet();
+
+        assertEquals(2, ElbonianBatchConverter.toElbonian(values, 0, values.length, out, offsets, errors));
+        assertEquals("INNNDDDYYYJJJNDDYY", new String(out, 0, offsets[values.length]));
+        assertArrayEquals(new int[]{0, 1, 1, 13, 18, 18}, offsets);
+        assertTrue(errors.get(1));
+        assertTrue(errors.get(4));
+        assertFalse(errors.get(0));
+    }
+
+    @Test
+    public void maxLengthDoesNotOverflow() {
+        assertEquals(16 * 134217727, ElbonianBatchConverter.maxLength(134217727));
+        assertEquals(Integer.MAX_VALUE, ElbonianBatchConverter.maxLength(134217728));
+        assertEquals(Integer.MAX_VALUE, ElbonianBatchConverter.maxLength(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void packBuffer() {
+        int[] values = {3660, 6753};
+        CharBuffer small = CharBuffer.allocate(16);
+        small.put('#');
+        int[] offsets = new int[3];
+        BitSet errors = new BitSet();
+
+        assertEquals(0, ElbonianBatchConverter.toElbonian(values, 0, 2, small, offsets, errors));
+        assertEquals(15, small.position());
+        small.flip();
+        assertEquals("#NDDYYNNDDCYXXJ", small.toString());
+        assertArrayEquals(new int[]{0, 5, 14}, offsets);
+    }
+
+    @Test
+    public void roundTrip() {
+        int[] values = new int[9999];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i + 1;
+        }
+        CharBuffer text = CharBuffer.allocate(ElbonianBatchConverter.maxLength(values.length));
+        int[] offsets = new int[values.length + 1];
+        BitSet errors = new BitSet();
+        ElbonianBatchConverter.toElbonian(values, 0, values.length, text, offsets, errors);
+        text.flip();
+
+        int[] back = new int[values.length];
+        assertEquals(0, ElbonianBatchConverter.toArabic(text, offsets, values.length, back, errors));
+        assertArrayEquals(values, back);
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void longestNumeralsFit() {
+        int[] values = new int[100];
+        Arrays.fill(values, 8888);
+        char[] out = new char[ElbonianBatchConverter.maxLength(values.length)];
+        int[] offsets = new int[values.length + 1];
+        BitSet errors = new BitSet();
+
+        assertEquals(0, ElbonianBatchConverter.toElbonian(values, 0, values.length, out, offsets, errors));
+        assertEquals(out.length, offsets[values.length]);
+        assertEquals("NNMMDDCCYYXXJJII", new String(out, 0, offsets[1]));
+    }
+
+    @Test
+    public void unpackErrors() {
+        char[] text = "NNNMIXIII".toCharArray();
+        int[] offsets = {0, 4, 5, 6, 6, 9};
+        int[] out = new int[5];
+        BitSet errors = new BitSet();
+
+        assertEquals(3, ElbonianBatchConverter.toArabic(text, offsets, 5, out, errors));
+        assertArrayEquals(new int[]{0, 1, 10, 0, 0}, out);
+        assertTrue(errors.get(0));
+        assertTrue(errors.get(3));
+        assertTrue(errors.get(4));
+    }
+}
@@ -0,0 +1,166 @@
+package converter.tests;
+
+import converter.ElbonianBatchConverter;
+import converter.column.ColumnEncoding;
+import converter.column.ColumnReader;
+import converter.column.ColumnWriter;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for the column file format: ColumnWriter and ColumnReader.
+ */
+public class ColumnFileTests {
+
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("elbonian", ".col");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void randomValues() throws Exception {
+        Random random = new Random(14);
+        int[] values = new int[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 + random.nextInt(9999);
+        }
+        write(values, 4096, EnumSet.allOf(ColumnEncoding.class));
+
+        try (ColumnReader reader = ColumnReader.open(file)) {
+            assertEquals(values.length, reader.size());
+            assertEquals(25, reader.blockCount());
+            assertEquals(ColumnEncoding.PLAIN, reader.encoding(0));
+            assertArrayEquals(values, reader.readAll());
+        }
+        //14 bits per value and small headers, against about 10 bytes per value as text
+        assertTrue(Files.size(file) < values.length * 14 / 8 + 25 * 32 + 64);
+    }
+
+    @Test
+    public void encodingsAreChosenPerBlock() throws Exception {
+        int[] values = new int[3000];
+        for (int i = 0; i < 1000; i++) {
+            values[i] = 3000 + i;                 //sorted: DELTA
+            values[1000 + i] = 1 + i / 100;       //long runs: RLE
+            values[2000 + i] = 1 + i * 7919 % 9999;  //spread: PLAIN
+        }
+        write(values, 1000, EnumSet.allOf(ColumnEncoding.class));
+
+        try (ColumnReader reader = ColumnReader.open(file)) {
+            assertEquals(ColumnEncoding.DELTA, reader.encoding(0));
+            assertEquals(ColumnEncoding.RLE, reader.encoding(1));
+            assertEquals(ColumnEncoding.PLAIN, reader.encoding(2));
+            assertArrayEquals(values, reader.readAll());
+
+            assertEquals(3000, reader.min(0));
+            assertEquals(3999, reader.max(0));
+            assertEquals(1000, reader.blockStart(1));
+            assertFalse(reader.mayContain(0, 1, 2999));
+            assertTrue(reader.mayContain(1, 5, 5));
+        }
+    }
+
+    @Test
+    public void everyEncodingRoundTrips() throws Exception {
+        Random random = new Random(7);
+        for (ColumnEncoding encoding : ColumnEncoding.values()) {
+            for (int blockSize : new int[]{1, 2, 63, 64, 65, 1000}) {
+                //Short runs of nearby values, which all three encodings can store
+                int[] values = new int[2500];
+                int value = 5000;
+                for (int i = 0; i < values.length; i++) {
+                    if (random.nextInt(3) == 0) {
+                        value = Math.max(1, Math.min(9999, value + random.nextInt(41) - 20));
+                    }
+                    values[i] = value;
+                }
+                write(values, blockSize, EnumSet.of(encoding));
+
+                try (ColumnReader reader = ColumnReader.open(file)) {
+                    assertArrayEquals(encoding + " " + blockSize, values, reader.readAll());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void elbonianText() throws Exception {
+        int[] values = {3660, 1, 9999, 8888};
+        write(values, 3, EnumSet.allOf(ColumnEncoding.class));
+
+        try (ColumnReader reader = ColumnReader.open(file)) {
+            CharBuffer text = CharBuffer.allocate(ElbonianBatchConverter.maxLength(3));
+            int[] offsets = new int[4];
+            assertEquals(3, reader.readElbonian(0, text, offsets));
+            text.flip();
+            assertEquals("NDDYYINNNDDDYYYJJJ", text.toString());
+
+            text.clear();
+            assertEquals(1, reader.readElbonian(1, text, offsets));
+            text.flip();
+            assertEquals("NNMMDDCCYYXXJJII", text.toString());
+        }
+    }
+
+    @Test
+    public void emptyFile() throws Exception {
+        write(new int[0], 10, EnumSet.allOf(ColumnEncoding.class));
+
+        try (ColumnReader reader = ColumnReader.open(file)) {
+            assertEquals(0, reader.size());
+            assertEquals(0, reader.blockCount());
+            assertEquals(0, reader.readAll().length);
+        }
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void outOfBounds() throws Exception {
+        try (ColumnWriter writer = new ColumnWriter(file)) {
+            writer.write(10000);
+        }
+    }
+
+    @Test
+    public void notAColumnFile() throws IOException {
+        Files.write(file, "3660\nNDDYY\n1234567890123456789\n".getBytes());
+        try {
+            ColumnReader.open(file);
+            fail("Text is not a column file");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().endsWith("is not a column file"));
+        }
+    }
+
+    private void write(int[] values, int blockSize, EnumSet<ColumnEncoding> encodings) throws Exception {
+        try (ColumnWriter writer = new ColumnWriter(file, blockSize, encodings)) {
+            int half = values.length / 2;
+            writer.write(values, 0, half);
+            for (int i = half; i < values.length; i++) {
+                writer.write(values[i]);
+            }
+        }
+    }
+
+}
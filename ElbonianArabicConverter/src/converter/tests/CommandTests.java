@@ -0,0 +1,25 @@
+package converter.tests;
+
+import converter.ElbonianCommand;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the ElbonianCommand class.
+ */
+public class CommandTests {
+
+    @Test
+    public void convertsBothWays() throws IOException {
+        StringWriter out = new StringWriter();
+        ElbonianCommand.convert(" NDDYY ", out);
+        ElbonianCommand.convert("3660", out);
+        ElbonianCommand.convert("0", out);
+        assertEquals("3660\nNDDYY\nERR Zero cannot be represented in the Elbonian number system.\n", out.toString());
+    }
+
+}
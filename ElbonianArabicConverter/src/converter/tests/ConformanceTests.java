@@ -0,0 +1,267 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianArithmetic;
+import converter.ElbonianNumber;
+import converter.ParseResult;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Conformance and regression gate for the conversion paths: every value round trips, every symbol string the
+ * grammar could plausibly accept is checked against an independent definition of the grammar, and the hot
+ * paths are held to allocation budgets and a loose latency ceiling.
+ */
+public class ConformanceTests {
+
+    private static final String SYMBOLS = "NMDCYXJI";
+    private static final int[] WEIGHTS = {3000, 1000, 300, 100, 30, 10, 3, 1};
+
+    //The grammar as the assignment states it, kept apart from the scanner it checks
+    private static final Pattern GRAMMAR = Pattern.compile("N{0,3}M{0,2}D{0,3}C{0,2}Y{0,3}X{0,2}J{0,3}I{0,2}");
+    private static final Pattern COMBINATIONS = Pattern.compile(".*(NNNM|DDDC|YYYX|JJJI).*");
+
+    //Operations per measurement, enough that the cost of measuring disappears
+    private static final int OPERATIONS = 200000;
+
+    @Test
+    public void everyValueRoundTrips() throws MalformedNumberException, ValueOutOfBoundsException {
+        for (int value = 1; value <= 9999; value++) {
+            String numeral = new ElbonianArabicConverter(Integer.toString(value)).toElbonian();
+            assertEquals(expectedNumeral(value), numeral);
+            assertEquals(value, new ElbonianArabicConverter(numeral).toArabic());
+            assertEquals(numeral, new ElbonianArabicConverter(numeral).toElbonian());
+            assertEquals(numeral, ElbonianArabicConverter.toElbonian(value));
+            assertEquals(value, ElbonianArabicConverter.toArabic(numeral));
+            assertEquals(value, ElbonianNumber.parse(numeral).toArabic());
+            assertEquals(value, ParseResult.value(ElbonianNumber.tryParse(numeral)));
+        }
+    }
+
+    @Test
+    public void everyShortStringMatchesGrammar() {
+        //All 8^1 + ... + 8^7 strings of up to 7 symbols
+        for (int length = 1; length <= 7; length++) {
+            char[] numeral = new char[length];
+            for (int n = 0; n < 1 << (3 * length); n++) {
+                for (int i = 0; i < length; i++) {
+                    numeral[i] = SYMBOLS.charAt(n >>> (3 * i) & 7);
+                }
+                checkAgainstGrammar(new String(numeral));
+            }
+        }
+    }
+
+    @Test
+    public void everySortedStringMatchesGrammar() {
+        //Every numeral the grammar accepts has its symbols in order and none more than 3 times, so these 4^8
+        //strings, up to 24 symbols long, hold all valid numerals and every near miss of the repeat and
+        //combination rules
+        StringBuilder numeral = new StringBuilder();
+        for (int counts = 0; counts < 1 << 16; counts++) {
+            numeral.setLength(0);
+            for (int symbol = 0; symbol < SYMBOLS.length(); symbol++) {
+                for (int i = 0; i < (counts >>> (2 * symbol) & 3); i++) {
+                    numeral.append(SYMBOLS.charAt(symbol));
+                }
+            }
+            if (numeral.length() > 0) {
+                checkAgainstGrammar(numeral.toString());
+            }
+        }
+    }
+
+    @Test
+    public void randomLongStringsMatchGrammar() {
+        Random random = new Random(23);
+        char[] numeral = new char[12];
+        for (int n = 0; n < 1000000; n++) {
+            int length = 8 + random.nextInt(5);
+            //Mostly sorted strings with a few symbols swapped, which is where mistakes hide
+            int symbol = 0;
+            for (int i = 0; i < length; i++) {
+                symbol = Math.min(7, symbol + (random.nextInt(3) == 0 ? 1 : 0));
+                numeral[i] = SYMBOLS.charAt(random.nextInt(8) == 0 ? random.nextInt(8) : symbol);
+            }
+            checkAgainstGrammar(new String(numeral, 0, length));
+        }
+    }
+
+    @Test
+    public void constructorAgreesWithGrammar() throws ValueOutOfBoundsException {
+        //The constructor builds exceptions, so it gets the 4680 strings of up to 4 symbols
+        for (int length = 1; length <= 4; length++) {
+            char[] numeral = new char[length];
+            for (int n = 0; n < 1 << (3 * length); n++) {
+                for (int i = 0; i < length; i++) {
+                    numeral[i] = SYMBOLS.charAt(n >>> (3 * i) & 7);
+                }
+                String text = new String(numeral);
+                int expected = expectedValue(text);
+                try {
+                    assertEquals(text, expected, new ElbonianArabicConverter(text).toArabic());
+                } catch (MalformedNumberException e) {
+                    assertEquals(text, -1, expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void allocationBudgets() throws MalformedNumberException, ValueOutOfBoundsException {
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+        String[] numerals = new String[1024];
+        String[] arabic = new String[1024];
+        //The same numbers as ASCII, each in a slot of 16 bytes, in an array, a heap buffer and a direct buffer
+        byte[] bytes = new byte[1024 * 16];
+        int[] lengths = new int[1024];
+        Random random = new Random(2323);
+        for (int i = 0; i < numerals.length; i++) {
+            int value = 1 + random.nextInt(9999);
+            numerals[i] = ElbonianArabicConverter.toElbonian(value);
+            arabic[i] = Integer.toString(value);
+            String text = i % 2 == 0 ? numerals[i] : arabic[i];
+            System.arraycopy(text.getBytes(StandardCharsets.US_ASCII), 0, bytes, i * 16, text.length());
+            lengths[i] = text.length();
+        }
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).clear();
+        //Converting a numeral or a value to the other form creates nothing
+        for (int round = 0; round < 5; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            int sum = 0;
+            for (int i = 0; i < OPERATIONS; i++) {
+                sum += ElbonianArabicConverter.toArabic(numerals[i & 1023]);
+                sum += ElbonianArabicConverter.toElbonian(1 + (i % 9999)).length();
+                sum += ElbonianNumber.parse(numerals[i & 1023]).toArabic();
+                sum += (int) ElbonianNumber.tryParse(arabic[i & 1023]);
+                sum += ElbonianArithmetic.add(numerals[i & 1023], "I").length();
+            }
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            assertTrue(sum != 0);
+            if (round == 4) {
+                assertBudget("static conversions, parse, tryParse and add", 0, allocated);
+            }
+        }
+        //Parsing ASCII bytes creates nothing either
+        for (int round = 0; round < 5; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            int sum = 0;
+            for (int i = 0; i < OPERATIONS; i++) {
+                int slot = i & 1023;
+                sum += ElbonianNumber.parse(bytes, slot * 16, lengths[slot]).toArabic();
+                sum += ElbonianNumber.parse(heap, slot * 16, lengths[slot]).toArabic();
+                sum += (int) ElbonianNumber.tryParse(direct, slot * 16, lengths[slot]);
+            }
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            assertTrue(sum != 0);
+            if (round == 4) {
+                assertBudget("parse and tryParse of byte arrays and buffers", 0, allocated);
+            }
+        }
+        //The constructor creates the converter and nothing else
+        for (int round = 0; round < 5; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            int sum = 0;
+            for (int i = 0; i < OPERATIONS; i++) {
+                sum += new ElbonianArabicConverter(numerals[i & 1023]).toArabic();
+            }
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            assertTrue(sum != 0);
+            if (round == 4) {
+                assertBudget("constructor", 32, allocated);
+            }
+        }
+    }
+
+    @Test
+    public void latencyCeiling() throws MalformedNumberException, ValueOutOfBoundsException {
+        String[] numerals = new String[1024];
+        for (int i = 0; i < numerals.length; i++) {
+            numerals[i] = ElbonianArabicConverter.toElbonian(1 + i * 9);
+        }
+        //Best of several rounds, so a pause of the machine does not fail the build; a conversion takes tens
+        //of nanoseconds, and the ceiling only catches a path that became a great deal slower
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long start = System.nanoTime();
+            int sum = 0;
+            for (int i = 0; i < OPERATIONS; i++) {
+                sum += new ElbonianArabicConverter(numerals[i & 1023]).toArabic();
+                sum += ElbonianArabicConverter.toElbonian(1 + (i % 9999)).length();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            assertTrue(sum != 0);
+        }
+        long perOperation = best / OPERATIONS;
+        assertTrue("A constructor and a conversion took " + perOperation + " ns", perOperation < 2000);
+    }
+
+    private static void checkAgainstGrammar(String numeral) {
+        long result = ElbonianNumber.tryParse(numeral);
+        int expected = expectedValue(numeral);
+        if (expected < 0) {
+            if (ParseResult.isSuccess(result)) {
+                fail("\"" + numeral + "\" was accepted as " + ParseResult.value(result));
+            }
+        } else {
+            assertEquals(numeral, expected, ParseResult.value(result));
+        }
+    }
+
+    //The value the grammar gives a string of symbols, or -1 if it does not accept it
+    private static int expectedValue(String numeral) {
+        if (!GRAMMAR.matcher(numeral).matches() || COMBINATIONS.matcher(numeral).matches()) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < numeral.length(); i++) {
+            value += WEIGHTS[SYMBOLS.indexOf(numeral.charAt(i))];
+        }
+        return value;
+    }
+
+    //Spells a value greedily, the largest symbols first, which the grammar makes the only spelling
+    private static String expectedNumeral(int value) {
+        StringBuilder numeral = new StringBuilder();
+        for (int symbol = 0, digit = 1000; digit > 0; symbol += 2, digit /= 10) {
+            int group = value / digit % 10;
+            for (int i = 0; i < group / 3; i++) {
+                numeral.append(SYMBOLS.charAt(symbol));
+            }
+            for (int i = 0; i < group % 3; i++) {
+                numeral.append(SYMBOLS.charAt(symbol + 1));
+            }
+        }
+        return numeral.toString();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+        Assume.assumeTrue(counter.isThreadAllocatedMemorySupported());
+        counter.setThreadAllocatedMemoryEnabled(true);
+        return counter;
+    }
+
+    private static void assertBudget(String operation, int bytesPerOperation, long allocated) {
+        //A little slack for what the counter and the loop themselves allocate
+        long budget = (long) bytesPerOperation * OPERATIONS + 16 * 1024;
+        assertTrue(operation + " allocated " + allocated + " bytes in " + OPERATIONS + " operations, the budget is "
+                + bytesPerOperation + " bytes each", allocated <= budget);
+    }
+
+}
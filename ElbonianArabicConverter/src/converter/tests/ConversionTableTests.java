@@ -0,0 +1,65 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test cases for the table based static conversion methods of the ElbonianArabicConverter class.
+ */
+public class ConversionTableTests {
+
+    @Test
+    public void tableMatchesConverter() throws MalformedNumberException, ValueOutOfBoundsException {
+        for (int i = 1; i <= 9999; i++) {
+            String elbonian = new ElbonianArabicConverter(Integer.toString(i)).toElbonian();
+            assertEquals(elbonian, ElbonianArabicConverter.toElbonian(i));
+            assertEquals(i, ElbonianArabicConverter.toArabic(elbonian));
+        }
+    }
+
+    @Test
+    public void tableStringsAreShared() throws ValueOutOfBoundsException {
+        assertSame(ElbonianArabicConverter.toElbonian(9999), ElbonianArabicConverter.toElbonian(9999));
+        assertSame("NNNDDDYYYJJJ", ElbonianArabicConverter.toElbonian(9999));
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void tableZero() throws ValueOutOfBoundsException {
+        ElbonianArabicConverter.toElbonian(0);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void tableTooLarge() throws ValueOutOfBoundsException {
+        ElbonianArabicConverter.toElbonian(10000);
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void tableEmpty() throws MalformedNumberException {
+        ElbonianArabicConverter.toArabic("");
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void tableInvalidCombo() throws MalformedNumberException {
+        ElbonianArabicConverter.toArabic("NNNM");
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void tableInvalidOrder() throws MalformedNumberException {
+        ElbonianArabicConverter.toArabic("NMCD");
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void tableTooManyI() throws MalformedNumberException {
+        ElbonianArabicConverter.toArabic("III");
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void tableLowerCase() throws MalformedNumberException {
+        ElbonianArabicConverter.toArabic("nm");
+    }
+}
@@ -6,6 +6,7 @@ import converter.exceptions.ValueOutOfBoundsException;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 /**
  * Test cases for the ElbonianArabicConverter class.
@@ -26,18 +27,17 @@ public class ConverterTests {
 
     @Test(expected = MalformedNumberException.class)
     public void malformedNumberTest() throws MalformedNumberException, ValueOutOfBoundsException {
-        throw new MalformedNumberException("TEST");
+        new ElbonianArabicConverter("TEST");
     }
 
     @Test(expected = ValueOutOfBoundsException.class)
     public void valueOutOfBoundsTest() throws MalformedNumberException, ValueOutOfBoundsException {
-        throw new ValueOutOfBoundsException("0");
+        new ElbonianArabicConverter("10000");
     }
 
     @Test(expected = ValueOutOfBoundsException.class)
     public void Test1() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter converter1 = new ElbonianArabicConverter("10010");
-        throw new ValueOutOfBoundsException("Large Value");
+        new ElbonianArabicConverter("10010");
     }
 
     @Test
@@ -54,8 +54,7 @@ public class ConverterTests {
 
     @Test(expected = MalformedNumberException.class)
     public void Test3() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter converter3 = new ElbonianArabicConverter("99 9");
-        throw new MalformedNumberException("Spaces");
+        new ElbonianArabicConverter("99 9");
     }
 
     @Test
@@ -66,14 +65,12 @@ public class ConverterTests {
 
     @Test (expected = MalformedNumberException.class)
     public void toArabicTest2() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter converter2 = new ElbonianArabicConverter("DYN");
-        throw new MalformedNumberException("Incorrect Order");
+        new ElbonianArabicConverter("DYN");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void toArabicTest3() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter converter2 = new ElbonianArabicConverter("IXJ");
-        throw new MalformedNumberException("Incorrect Order");
+        new ElbonianArabicConverter("IXJ");
     }
 
     @Test
@@ -90,8 +87,7 @@ public class ConverterTests {
 
     @Test(expected = ValueOutOfBoundsException.class)
     public void valueOutTest() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter converter1 = new ElbonianArabicConverter("-9");
-        throw new ValueOutOfBoundsException("Negative Number");
+        new ElbonianArabicConverter("-9");
     }
 
     @Test
@@ -115,161 +111,163 @@ public class ConverterTests {
     // Here are the tests we failed last time
     @Test (expected = MalformedNumberException.class)
     public void Malformed() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given1 = new ElbonianArabicConverter("1M");
-        throw new MalformedNumberException("Number and Letter");
+        new ElbonianArabicConverter("1M");
     }
 
 
     @Test (expected = MalformedNumberException.class)
     public void invalidCombo() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given2 = new ElbonianArabicConverter("NMDDDCYXJI");
-        throw new MalformedNumberException("Invalid Combo");
+        new ElbonianArabicConverter("NMDDDCYXJI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void invalidOrder() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given3 = new ElbonianArabicConverter("NMCDYXJI");
-        throw new MalformedNumberException("Invalid Order");
+        new ElbonianArabicConverter("NMCDYXJI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void invalidOrder2() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given4 = new ElbonianArabicConverter("INMDCYXJ");
-        throw new MalformedNumberException("Invalid Order");
+        new ElbonianArabicConverter("INMDCYXJ");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void invalidOrder3() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given5 = new ElbonianArabicConverter("NMDCYJXI");
-        throw new MalformedNumberException("Invalid Order");
+        new ElbonianArabicConverter("NMDCYJXI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void invalidOrder4() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given6 = new ElbonianArabicConverter("MNDCYXJI");
-        throw new MalformedNumberException("Invalid Order");
+        new ElbonianArabicConverter("MNDCYXJI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void invalidOrder5() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given7 = new ElbonianArabicConverter("MDCYXJIN");
-        throw new MalformedNumberException("Invalid Order");
+        new ElbonianArabicConverter("MDCYXJIN");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void invalidOrder6() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given8 = new ElbonianArabicConverter("NMDCXYJI");
-        throw new MalformedNumberException("Invalid Order");
+        new ElbonianArabicConverter("NMDCXYJI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void invalidOrder7() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given9 = new ElbonianArabicConverter("NMDYCXJI");
-        throw new MalformedNumberException("Invalid Order");
+        new ElbonianArabicConverter("NMDYCXJI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void invalidCombo2() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given10 = new ElbonianArabicConverter("NMDCYXJJJI");
-        throw new MalformedNumberException("Invalid Combo");
+        new ElbonianArabicConverter("NMDCYXJJJI");
     }
 
 
     @Test (expected = MalformedNumberException.class)
     public void invalidCombo3() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given11 = new ElbonianArabicConverter("NNNMDCYXJI");
-        throw new MalformedNumberException("Invalid Combo");
+        new ElbonianArabicConverter("NNNMDCYXJI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void invalidCombo4() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given12 = new ElbonianArabicConverter("NNNMDCYXJI");
-        throw new MalformedNumberException("Invalid Combo");
+        new ElbonianArabicConverter("NNNMDCYXJI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void invalidCombo5() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given12 = new ElbonianArabicConverter("NMDCYYYXJI");
-        throw new MalformedNumberException("Invalid Combo");
+        new ElbonianArabicConverter("NMDCYYYXJI");
     }
 
 
     @Test (expected = MalformedNumberException.class)
     public void invalidOrder8() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given13 = new ElbonianArabicConverter("NDMCYXJI");
-        throw new MalformedNumberException("Invalid Order");
+        new ElbonianArabicConverter("NDMCYXJI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void toManyC() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given13 = new ElbonianArabicConverter("MCCCXI");
-        throw new MalformedNumberException("Too many C's");
+        new ElbonianArabicConverter("MCCCXI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void toManyD() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given13 = new ElbonianArabicConverter("NDDDDYJ");
-        throw new MalformedNumberException("Too many D's");
+        new ElbonianArabicConverter("NDDDDYJ");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void toManyI() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given13 = new ElbonianArabicConverter("MCXIII");
-        throw new MalformedNumberException("Too many I's");
+        new ElbonianArabicConverter("MCXIII");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void toManyJ() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given13 = new ElbonianArabicConverter("NDYJJJJ");
-        throw new MalformedNumberException("Too many J's");
+        new ElbonianArabicConverter("NDYJJJJ");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void toManyM() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given13 = new ElbonianArabicConverter("MMMCXI");
-        throw new MalformedNumberException("Too many M's");
+        new ElbonianArabicConverter("MMMCXI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void toManyN() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given13 = new ElbonianArabicConverter("NNNNDYJ");
-        throw new MalformedNumberException("Too many N's");
+        new ElbonianArabicConverter("NNNNDYJ");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void toManyX() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given13 = new ElbonianArabicConverter("MCXXXI");
-        throw new MalformedNumberException("Too many X's");
+        new ElbonianArabicConverter("MCXXXI");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void toManyY() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given13 = new ElbonianArabicConverter("NDYYYYJ");
-        throw new MalformedNumberException("Too many Y's");
+        new ElbonianArabicConverter("NDYYYYJ");
     }
 
     //Out of bounds
     @Test(expected = ValueOutOfBoundsException.class)
     public void negative() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter converter1 = new ElbonianArabicConverter("-1");
-        throw new ValueOutOfBoundsException("Negative Number");
+        new ElbonianArabicConverter("-1");
     }
 
     @Test(expected = ValueOutOfBoundsException.class)
     public void zero() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter converter1 = new ElbonianArabicConverter("0");
-        throw new ValueOutOfBoundsException("Zero Value");
+        new ElbonianArabicConverter("0");
     }
 
     @Test (expected = MalformedNumberException.class)
     public void caseDetection() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given13 = new ElbonianArabicConverter("k");
-        throw new MalformedNumberException("Lower Case");
+        new ElbonianArabicConverter("k");
+    }
+
+    @Test
+    public void surroundingSpaces() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("  99 ");
+        assertEquals(converter.toElbonian(), "YYYJJJ");
+    }
+
+    @Test
+    public void elbonianToElbonian() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("NDDYY");
+        assertEquals(converter.toElbonian(), "NDDYY");
+    }
+
+    @Test
+    public void arabicToArabic() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("3660");
+        assertEquals(converter.toArabic(), 3660);
+    }
+
+    @Test
+    public void malformedPosition() throws ValueOutOfBoundsException {
+        try {
+            new ElbonianArabicConverter(" NNNM");
+            fail("NNNM is not a valid Elbonian number");
+        } catch (MalformedNumberException e) {
+            assertEquals("'M' at index 4 cannot follow three 'N'.", e.getMessage());
+        }
     }
 
     @Test (expected = MalformedNumberException.class)
     public void nonElbonianCharacter() throws MalformedNumberException, ValueOutOfBoundsException {
-        ElbonianArabicConverter given13 = new ElbonianArabicConverter("MLX");
-        throw new MalformedNumberException("Non Elbonian Character Given");
+        new ElbonianArabicConverter("MLX");
     }
 }
@@ -0,0 +1,124 @@
+package converter.tests;
+
+import converter.ElbonianNumber;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for the ElbonianNumber class.
+ */
+public class ElbonianNumberTests {
+
+    @Test
+    public void factoriesShareInstances() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianNumber number = ElbonianNumber.valueOf(3660);
+        assertSame(number, ElbonianNumber.ofArabic(3660));
+        assertSame(number, ElbonianNumber.parse("NDDYY"));
+        assertSame(number, ElbonianNumber.parse(" 3660 "));
+    }
+
+    @Test
+    public void convertsBothWays() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianNumber number = ElbonianNumber.parse("NNDDCYXXJ");
+        assertEquals(6753, number.toArabic());
+        assertEquals("NNDDCYXXJ", number.toElbonian());
+        assertEquals("NNDDCYXXJ", number.toString());
+    }
+
+    @Test
+    public void ordering() {
+        assertTrue(ElbonianNumber.valueOf(9).compareTo(ElbonianNumber.valueOf(10)) < 0);
+        assertEquals(ElbonianNumber.valueOf(9999), ElbonianNumber.valueOf(9999));
+        assertEquals(9999, ElbonianNumber.valueOf(9999).hashCode());
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void ofArabicZero() throws ValueOutOfBoundsException {
+        ElbonianNumber.ofArabic(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void valueOfTooLarge() {
+        ElbonianNumber.valueOf(10000);
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void parseMalformed() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianNumber.parse("NMCD");
+    }
+
+    @Test
+    public void parseSlices() throws MalformedNumberException, ValueOutOfBoundsException {
+        String record = "id=7;value= NDDYY ;";
+        assertEquals(3660, ElbonianNumber.parse(record, 11, 7).toArabic());
+        assertEquals(7, ElbonianNumber.parse(record, 3, 1).toArabic());
+
+        byte[] bytes = record.getBytes(StandardCharsets.US_ASCII);
+        assertEquals(3660, ElbonianNumber.parse(bytes, 11, 7).toArabic());
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        buffer.put(bytes);
+        assertEquals(3660, ElbonianNumber.parse(buffer, 12, 5).toArabic());
+        assertEquals(bytes.length, buffer.position());
+    }
+
+    @Test
+    public void parseSliceReportsIndexInWholeInput() throws ValueOutOfBoundsException {
+        try {
+            ElbonianNumber.parse("xxNNNMxx".getBytes(StandardCharsets.US_ASCII), 2, 4);
+            fail("NNNM is not a valid Elbonian number");
+        } catch (MalformedNumberException e) {
+            assertEquals("'M' at index 5 cannot follow three 'N'.", e.getMessage());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void parseSliceOutOfRange() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianNumber.parse("NDDYY", 3, 3);
+    }
+
+    @Test
+    public void bufferRangeEndsAtLimit() throws MalformedNumberException, ValueOutOfBoundsException {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        buffer.put("NDDYY".getBytes(StandardCharsets.US_ASCII)).flip();
+        assertEquals(3660, ElbonianNumber.parse(buffer, 0, 5).toArabic());
+        try {
+            ElbonianNumber.tryParse(buffer, 2, 4);
+            fail("The range passes the limit");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("offset 2, length 4, size 5", e.getMessage());
+        }
+        try {
+            ElbonianNumber.parse(buffer, 5, 1);
+            fail("The range passes the limit");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("offset 5, length 1, size 5", e.getMessage());
+        }
+    }
+
+    @Test
+    public void appendTo() throws IOException {
+        StringBuilder text = ElbonianNumber.valueOf(3660).appendTo(new StringBuilder("x="));
+        assertEquals("x=NDDYY", text.toString());
+
+        ByteBuffer buffer = ElbonianNumber.valueOf(9999).appendTo(ByteBuffer.allocate(12));
+        assertEquals(12, buffer.position());
+        assertEquals("NNNDDDYYYJJJ", new String(buffer.array(), StandardCharsets.US_ASCII));
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void appendToFullBuffer() {
+        ElbonianNumber.valueOf(9999).appendTo(ByteBuffer.allocate(11));
+    }
+}
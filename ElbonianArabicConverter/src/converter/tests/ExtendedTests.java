@@ -0,0 +1,118 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ExtendedElbonian;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for ExtendedElbonian.
+ */
+public class ExtendedTests {
+
+    @Test
+    public void chunks() throws ValueOutOfBoundsException, MalformedNumberException {
+        assertEquals("NDDYY", ExtendedElbonian.toElbonian(3660));
+        assertEquals("I.MMDYXJII", ExtendedElbonian.toElbonian(12345));
+        assertEquals("II.", ExtendedElbonian.toElbonian(20000));
+        assertEquals("I..II", ExtendedElbonian.toElbonian(100000002));
+        assertEquals(12345, ExtendedElbonian.parseLong("I.MMDYXJII"));
+        assertEquals(20000, ExtendedElbonian.parseLong("II."));
+        assertEquals(100000002, ExtendedElbonian.parseLong("I..II"));
+    }
+
+    @Test
+    public void longRoundTrips() throws ValueOutOfBoundsException, MalformedNumberException {
+        Random random = new Random(21);
+        for (int i = 0; i < 20000; i++) {
+            long value = random.nextLong() >>> 1 + random.nextInt(63);
+            if (value == 0) {
+                continue;
+            }
+            String numeral = ExtendedElbonian.toElbonian(value);
+            assertEquals(expected(BigInteger.valueOf(value)), numeral);
+            assertEquals(value, ExtendedElbonian.parseLong(numeral));
+            assertEquals(BigInteger.valueOf(value), ExtendedElbonian.parse(numeral));
+        }
+        assertEquals(Long.MAX_VALUE, ExtendedElbonian.parseLong(ExtendedElbonian.toElbonian(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void largeRoundTrips() throws ValueOutOfBoundsException, MalformedNumberException, IOException {
+        Random random = new Random(2121);
+        for (int digits : new int[]{20, 100, 10000, 40000}) {
+            BigInteger value = new BigInteger(digits * 10 / 3, random).add(BigInteger.ONE).multiply(BigInteger.TEN.pow(8));
+            String numeral = ExtendedElbonian.toElbonian(value);
+            assertEquals(expected(value), numeral);
+            assertEquals(value, ExtendedElbonian.parse(numeral));
+            assertEquals(value, ExtendedElbonian.parse(new StringReader(numeral)));
+        }
+    }
+
+    @Test
+    public void longOverflow() throws ValueOutOfBoundsException, MalformedNumberException {
+        String numeral = ExtendedElbonian.toElbonian(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE));
+        try {
+            ExtendedElbonian.parseLong(numeral);
+            fail("Expected a ValueOutOfBoundsException");
+        } catch (ValueOutOfBoundsException e) {
+            assertEquals("Numbers larger than 9223372036854775807 do not fit in a long.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void malformed() {
+        assertMalformed("", "No number was given.");
+        assertMalformed(".I", "Expected an Elbonian numeral before '.' at index 0.");
+        assertMalformed("I.IJ", "'J' at index 3 cannot come after 'I'.");
+        assertMalformed("I.5", "Unexpected character '5' at index 2."
+                + " Extended Elbonian numbers may only contain the symbols NMDCYXJI and '.'.");
+        assertMalformed("JJJ.JJJI", "'I' at index 7 cannot follow three 'J'.");
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void zero() throws ValueOutOfBoundsException {
+        ExtendedElbonian.toElbonian(BigInteger.ZERO);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void negative() throws ValueOutOfBoundsException {
+        ExtendedElbonian.toElbonian(-10000L);
+    }
+
+    //Builds the extended numeral from the decimal digits with the plain converter
+    private static String expected(BigInteger value) throws ValueOutOfBoundsException {
+        String digits = value.toString();
+        StringBuilder out = new StringBuilder();
+        int first = (digits.length() - 1) % 4 + 1;
+        for (int start = 0, end = first; end <= digits.length(); start = end, end += 4) {
+            int chunk = Integer.parseInt(digits.substring(start, end));
+            if (start > 0) {
+                out.append('.');
+            }
+            if (chunk > 0) {
+                out.append(ElbonianArabicConverter.toElbonian(chunk));
+            }
+        }
+        return out.toString();
+    }
+
+    private static void assertMalformed(String numeral, String message) {
+        try {
+            ExtendedElbonian.parse(numeral);
+            fail("Expected a MalformedNumberException for \"" + numeral + "\"");
+        } catch (MalformedNumberException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+
+}
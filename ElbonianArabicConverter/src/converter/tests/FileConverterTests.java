@@ -0,0 +1,87 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianFileConverter;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the ElbonianFileConverter class.
+ */
+public class FileConverterTests {
+
+    private Path directory;
+    private Path input;
+    private Path output;
+    private Path errors;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("elbonian");
+        input = directory.resolve("input.txt");
+        output = directory.resolve("output.txt");
+        errors = directory.resolve("errors.txt");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private String read(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void convertsBothDirections() throws IOException {
+        Files.write(input, "1\n NNNDDDYYYJJJ \n3660\r\nJII".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(0, new ElbonianFileConverter().convert(input, output, errors));
+        assertEquals("I\n9999\nNDDYY\n5\n", read(output));
+        assertEquals("", read(errors));
+    }
+
+    @Test
+    public void reportsMalformedLines() throws IOException {
+        Files.write(input, "NNNM\n99\n\n10010\n".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(3, new ElbonianFileConverter().convert(input, output, errors));
+        assertEquals("\nYYYJJJ\n\n\n", read(output));
+        assertEquals("line 1: 'M' at index 3 cannot follow three 'N'.\n"
+                + "line 3: No number was given.\n"
+                + "line 4: Numbers larger than 9999 cannot be represented in the Elbonian number system.\n",
+                read(errors));
+    }
+
+    @Test
+    public void smallWindows() throws IOException, ValueOutOfBoundsException {
+        StringBuilder text = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 1; i <= 9999; i += 7) {
+            text.append(i).append('\n');
+            expected.append(ElbonianArabicConverter.toElbonian(i)).append('\n');
+        }
+        Files.write(input, text.toString().getBytes(StandardCharsets.US_ASCII));
+        assertEquals(0, new ElbonianFileConverter(7, 17).convert(input, output, errors));
+        assertEquals(expected.toString(), read(output));
+    }
+
+    @Test
+    public void lineLongerThanWindow() throws IOException {
+        Files.write(input, "1\n                    2\n3".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(1, new ElbonianFileConverter(8, 17).convert(input, output, errors));
+        assertEquals("I\n\nJ\n", read(output));
+        assertEquals("line 2: Line is longer than 8 bytes.\n", read(errors));
+    }
+}
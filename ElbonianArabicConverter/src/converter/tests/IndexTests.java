@@ -0,0 +1,132 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianIndex;
+import converter.ElbonianOrder;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for ElbonianIndex and ElbonianOrder.
+ */
+public class IndexTests {
+
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("elbonian", ".idx");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void queriesMatchScan() throws ValueOutOfBoundsException, IOException {
+        Random random = new Random(18);
+        int[] values = new int[50000];
+        ElbonianIndex.Builder builder = new ElbonianIndex.Builder();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 + random.nextInt(9999);
+            builder.add(values[i], i);
+        }
+        ElbonianIndex built = builder.build();
+        built.write(file);
+        ElbonianIndex opened = ElbonianIndex.open(file);
+
+        for (ElbonianIndex index : new ElbonianIndex[]{built, opened}) {
+            assertEquals(values.length, index.size());
+            for (int query = 0; query < 200; query++) {
+                int low = random.nextInt(10002) - 1;
+                int high = low + random.nextInt(3000);
+                assertArrayEquals(scan(values, low, high), index.range(low, high));
+                assertEquals(scan(values, low, high).length, index.count(low, high));
+            }
+            assertEquals(0, index.count(5000, 4000));
+            assertEquals(values.length, index.count(0, 20000));
+        }
+    }
+
+    @Test
+    public void topRecords() throws ValueOutOfBoundsException {
+        ElbonianIndex.Builder builder = new ElbonianIndex.Builder();
+        int[] values = {5, 9999, 17, 9999, 42, 1};
+        for (int i = 0; i < values.length; i++) {
+            builder.add(values[i], 100 + i);
+        }
+        ElbonianIndex index = builder.build();
+        assertArrayEquals(new long[]{101, 103, 104}, index.top(3));
+        assertArrayEquals(new long[]{101, 103, 104, 102, 100, 105}, index.top(10));
+        assertEquals(1, index.valueAt(0));
+        assertEquals(42, index.valueAt(3));
+        assertEquals(9999, index.valueAt(5));
+    }
+
+    @Test
+    public void buildFromText() throws IOException, MalformedNumberException {
+        Files.write(file, "NDDYY\n  42\nbad\n9999,I\n".getBytes(StandardCharsets.US_ASCII));
+        ElbonianIndex index = ElbonianIndex.build(file);
+        assertEquals(4, index.size());
+        //Pointers are the offsets where each number starts
+        assertArrayEquals(new long[]{20, 8, 0, 15}, index.range(1, 9999));
+        assertEquals(2, index.count("Y", "NDDYY"));
+    }
+
+    @Test
+    public void orderMatchesValues() throws ValueOutOfBoundsException {
+        List<String> numerals = new ArrayList<>();
+        for (int value = 9999; value >= 1; value--) {
+            numerals.add(ElbonianArabicConverter.toElbonian(value));
+        }
+        numerals.sort(ElbonianOrder.COMPARATOR);
+        for (int value = 1; value <= 9999; value++) {
+            assertEquals(ElbonianArabicConverter.toElbonian(value), numerals.get(value - 1));
+        }
+        for (int value = 1; value < 9999; value++) {
+            long key = ElbonianOrder.key(numerals.get(value - 1));
+            assertTrue(Long.compareUnsigned(key, ElbonianOrder.key(numerals.get(value))) < 0);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void notAnIndex() throws IOException {
+        Files.write(file, new byte[100]);
+        ElbonianIndex.open(file);
+    }
+
+    //The indexes of the values in the range, ordered by value and then by index
+    private static long[] scan(int[] values, int low, int high) {
+        long[] found = new long[values.length];
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] >= low && values[i] <= high) {
+                found[count++] = (long) values[i] << 32 | i;
+            }
+        }
+        found = Arrays.copyOf(found, count);
+        Arrays.sort(found);
+        for (int i = 0; i < count; i++) {
+            found[i] &= 0xFFFFFFFFL;
+        }
+        return found;
+    }
+
+}
@@ -0,0 +1,143 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import converter.metrics.ConverterMetrics;
+import converter.metrics.ConverterMetrics.Operation;
+import converter.metrics.OperationSnapshot;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the converter.metrics package.
+ */
+public class MetricsTests {
+
+    @Before
+    public void setUp() {
+        ConverterMetrics.resetAll();
+    }
+
+    @Test
+    public void countsAndFailures() {
+        long now = System.nanoTime();
+        ConverterMetrics.record(Operation.TO_ARABIC, now);
+        ConverterMetrics.record(Operation.TO_ARABIC, now);
+        ConverterMetrics.failed(Operation.PARSE, new MalformedNumberException("bad"));
+        ConverterMetrics.failed(Operation.PARSE, new ValueOutOfBoundsException("big"));
+        ConverterMetrics.failed(Operation.PARSE, new ValueOutOfBoundsException("big"));
+
+        OperationSnapshot toArabic = ConverterMetrics.snapshot(Operation.TO_ARABIC);
+        assertEquals(2, toArabic.getCount());
+        OperationSnapshot parse = ConverterMetrics.snapshot(Operation.PARSE);
+        assertEquals(3, parse.getCount());
+        assertEquals(1, parse.getMalformedCount());
+        assertEquals(2, parse.getOutOfBoundsCount());
+        assertEquals(0, parse.getP50Nanos());
+    }
+
+    @Test
+    public void percentilesWithinPrecision() {
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            ConverterMetrics.record(Operation.TO_ELBONIAN, start - (i + 1) * 1000L);
+        }
+        OperationSnapshot snapshot = ConverterMetrics.snapshot(Operation.TO_ELBONIAN);
+        long elapsed = System.nanoTime() - start;
+        //The i-th latency is i microseconds plus the time the loop took so far
+        assertTrue(snapshot.getP50Nanos() >= 500_000);
+        assertTrue(snapshot.getP50Nanos() <= (500_000 + elapsed) * 104 / 100);
+        assertTrue(snapshot.getMaxNanos() >= 1_000_000);
+        assertTrue(snapshot.getP99Nanos() <= snapshot.getMaxNanos());
+    }
+
+    @Test
+    public void converterDoesNotRecordByDefault() throws Exception {
+        Assume.assumeFalse(ConverterMetrics.ENABLED);
+        convertSamples();
+        for (Operation operation : Operation.values()) {
+            assertEquals(operation.name(), 0, ConverterMetrics.snapshot(operation).getCount());
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(ConverterMetrics.OBJECT_NAME)));
+    }
+
+    @Test
+    public void converterRecordsOverJmxWhenEnabled() throws Exception {
+        //ENABLED is read once when the class loads, so the instrumented paths run in a JVM of their own
+        String classPath = location(MetricsTests.class) + File.pathSeparator + location(ConverterMetrics.class);
+        Process process = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Delbonian.metrics=true", "-cp", classPath, InstrumentedRun.class.getName())
+                .redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue("The instrumented JVM did not exit", process.waitFor(60, TimeUnit.SECONDS));
+        assertEquals(output, 0, process.exitValue());
+        assertEquals(String.join(System.lineSeparator(),
+                "Parse 4 1 1 timed",
+                "ToArabic 1 0 0 timed",
+                "ToElbonian 2 0 0 timed",
+                "Parse 0 0 0 untimed",
+                ""), output);
+    }
+
+    //Makes every instrumented call once or more, including both kinds of failure. It runs without JUnit on
+    //the class path in the instrumented JVM, so it does not assert anything.
+    private static void convertSamples() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter numeral = new ElbonianArabicConverter("NDDYY");
+        numeral.toArabic();
+        numeral.toElbonian();
+        new ElbonianArabicConverter("3660").toElbonian();
+        try {
+            new ElbonianArabicConverter("NNNM");
+        } catch (MalformedNumberException expected) {
+            //Counted as malformed
+        }
+        try {
+            new ElbonianArabicConverter("10000");
+        } catch (ValueOutOfBoundsException expected) {
+            //Counted as out of bounds
+        }
+    }
+
+    private static String location(Class<?> type) throws Exception {
+        return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    /**
+     * Run with -Delbonian.metrics=true by converterRecordsOverJmxWhenEnabled(). Makes the sample calls, then
+     * prints the counters of every operation as the platform MBean server reports them, resets them over JMX
+     * and prints the PARSE counters again.
+     */
+    public static final class InstrumentedRun {
+
+        public static void main(String[] args) throws Exception {
+            convertSamples();
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(ConverterMetrics.OBJECT_NAME);
+            for (String attribute : new String[]{"Parse", "ToArabic", "ToElbonian"}) {
+                print(attribute, (CompositeData) server.getAttribute(name, attribute));
+            }
+            server.invoke(name, "reset", new Object[0], new String[0]);
+            print("Parse", (CompositeData) server.getAttribute(name, "Parse"));
+        }
+
+        private static void print(String attribute, CompositeData snapshot) {
+            System.out.println(attribute + " " + snapshot.get("count") + " " + snapshot.get("malformedCount") + " "
+                    + snapshot.get("outOfBoundsCount") + " " + ((Long) snapshot.get("maxNanos") > 0 ? "timed" : "untimed"));
+        }
+    }
+}
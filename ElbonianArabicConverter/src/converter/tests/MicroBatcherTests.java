@@ -0,0 +1,135 @@
+package converter.tests;
+
+import converter.ElbonianMicroBatcher;
+import converter.ElbonianNumber;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for the ElbonianMicroBatcher class.
+ */
+public class MicroBatcherTests {
+
+    @Test
+    public void concurrentRequests() throws Exception {
+        try (ElbonianMicroBatcher batcher = new ElbonianMicroBatcher(64, 20, TimeUnit.MICROSECONDS)) {
+            List<Thread> threads = new ArrayList<>();
+            List<Throwable> failures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int first = t;
+                Thread thread = new Thread(() -> {
+                    try {
+                        List<CompletableFuture<String>> numerals = new ArrayList<>();
+                        List<CompletableFuture<Integer>> values = new ArrayList<>();
+                        for (int value = first + 1; value <= 9999; value += 8) {
+                            numerals.add(batcher.toElbonian(value));
+                            values.add(batcher.toArabic(ElbonianNumber.valueOf(value).toElbonian()));
+                        }
+                        for (int i = 0; i < numerals.size(); i++) {
+                            int value = first + 1 + i * 8;
+                            assertEquals(ElbonianNumber.valueOf(value).toElbonian(), numerals.get(i).get());
+                            assertEquals(value, values.get(i).get().intValue());
+                        }
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertTrue(failures.toString(), failures.isEmpty());
+            assertEquals(2 * 9999, batcher.requests());
+            assertTrue(batcher.batches() <= batcher.requests());
+        }
+    }
+
+    @Test
+    public void fullBatchIsNotHeldForLinger() throws Exception {
+        try (ElbonianMicroBatcher batcher = new ElbonianMicroBatcher(4, 1, TimeUnit.HOURS)) {
+            List<CompletableFuture<String>> numerals = new ArrayList<>();
+            for (int value = 1; value <= 4; value++) {
+                numerals.add(batcher.toElbonian(value));
+            }
+
+            assertEquals("JI", numerals.get(3).get(10, TimeUnit.SECONDS));
+            assertEquals(1, batcher.batches());
+        }
+    }
+
+    @Test
+    public void lingerWakesConsumerOncePerBatch() throws Exception {
+        try (ElbonianMicroBatcher batcher = new ElbonianMicroBatcher(64, 1, TimeUnit.HOURS)) {
+            List<CompletableFuture<String>> numerals = new ArrayList<>();
+            for (int value = 1; value <= 640; value++) {
+                numerals.add(batcher.toElbonian(value));
+            }
+            for (CompletableFuture<String> numeral : numerals) {
+                numeral.get(10, TimeUnit.SECONDS);
+            }
+
+            //Only full batches are converted; each costs one wakeup for its first request and one once it fills
+            assertEquals(10, batcher.batches());
+            assertTrue(batcher.wakeups() + " wakeups", batcher.wakeups() <= 3 * batcher.batches());
+        }
+    }
+
+    @Test
+    public void lingerFlushesPartialBatch() throws Exception {
+        try (ElbonianMicroBatcher batcher = new ElbonianMicroBatcher(1000, 20, TimeUnit.MILLISECONDS)) {
+            assertEquals(3660, batcher.toArabic("NDDYY").get(10, TimeUnit.SECONDS).intValue());
+        }
+    }
+
+    @Test
+    public void failures() throws InterruptedException, TimeoutException {
+        try (ElbonianMicroBatcher batcher = new ElbonianMicroBatcher(8, 0, TimeUnit.NANOSECONDS)) {
+            try {
+                batcher.toArabic("NNNN").get(10, TimeUnit.SECONDS);
+                fail("NNNN is not a valid numeral");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof MalformedNumberException);
+            }
+            try {
+                batcher.toElbonian(10000).get(10, TimeUnit.SECONDS);
+                fail("10000 is out of bounds");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof ValueOutOfBoundsException);
+            }
+        }
+    }
+
+    @Test
+    public void closeAnswersQueuedRequests() throws Exception {
+        ElbonianMicroBatcher batcher = new ElbonianMicroBatcher(1000, 1, TimeUnit.HOURS);
+        CompletableFuture<String> queued = batcher.toElbonian(3660);
+        batcher.close();
+
+        assertEquals("NDDYY", queued.get(10, TimeUnit.SECONDS));
+        try {
+            batcher.toElbonian(1);
+            fail("A closed batcher must reject requests");
+        } catch (RejectedExecutionException e) {
+            //Expected
+        }
+    }
+
+}
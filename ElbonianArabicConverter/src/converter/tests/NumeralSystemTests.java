@@ -0,0 +1,144 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import converter.numeral.NumeralConverter;
+import converter.numeral.NumeralSystem;
+import converter.numeral.StandardSystems;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test cases for NumeralConverter and the standard numeral systems.
+ */
+public class NumeralSystemTests {
+
+    @Test
+    public void elbonianMatchesConverter() throws MalformedNumberException, ValueOutOfBoundsException {
+        NumeralConverter converter = NumeralConverter.of(StandardSystems.ELBONIAN);
+        assertEquals(9999, converter.maxValue());
+        for (int value = 1; value <= 9999; value++) {
+            String numeral = ElbonianArabicConverter.toElbonian(value);
+            assertEquals(numeral, converter.toNumeral(value));
+            assertEquals(value, converter.toArabic(numeral));
+        }
+    }
+
+    @Test
+    public void elbonianRejectsWhatConverterRejects() {
+        NumeralConverter converter = NumeralConverter.of(StandardSystems.ELBONIAN);
+        Random random = new Random(5);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder numeral = new StringBuilder();
+            int length = 1 + random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                numeral.append("NMDCYXJIA".charAt(random.nextInt(9)));
+            }
+            int expected;
+            try {
+                expected = ElbonianArabicConverter.toArabic(numeral);
+            } catch (MalformedNumberException e) {
+                expected = -1;
+            }
+            assertEquals(numeral.toString(), expected, converter.valueOf(numeral, 0, numeral.length()));
+        }
+    }
+
+    @Test
+    public void roman() throws MalformedNumberException, ValueOutOfBoundsException {
+        NumeralConverter converter = NumeralConverter.of(StandardSystems.ROMAN);
+        assertEquals(3999, converter.maxValue());
+        assertEquals("MCMXCIV", converter.toNumeral(1994));
+        assertEquals("MMMCMXCIX", converter.toNumeral(3999));
+        assertEquals("XLIV", converter.toNumeral(44));
+        assertEquals(1994, converter.toArabic("MCMXCIV"));
+        assertEquals(8, converter.toArabic("VIII"));
+        for (String invalid : new String[]{"IIII", "IC", "VX", "IXI", "MCMC", "DCD", "VIV", "IIV", "", "MMMM"}) {
+            assertEquals(invalid, -1, converter.valueOf(invalid, 0, invalid.length()));
+        }
+    }
+
+    @Test
+    public void convertersAreShared() {
+        assertSame(NumeralConverter.of(StandardSystems.ROMAN), NumeralConverter.of(StandardSystems.ROMAN));
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void malformedRoman() throws MalformedNumberException {
+        NumeralConverter.of(StandardSystems.ROMAN).toArabic("MIM");
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void romanTooLarge() throws ValueOutOfBoundsException {
+        NumeralConverter.of(StandardSystems.ROMAN).toNumeral(4000);
+    }
+
+    //Without exclusions, "V" and "IVI" would both mean 5
+    @Test(expected = IllegalArgumentException.class)
+    public void ambiguousSystem() {
+        NumeralConverter.of(new Simple(new String[]{"V", "IV", "I"}, new int[]{5, 4, 1}, new int[]{1, 1, 3}));
+    }
+
+    //Only 1, 10 and 11 can be written
+    @Test(expected = IllegalArgumentException.class)
+    public void systemWithGaps() {
+        NumeralConverter.of(new Simple(new String[]{"T", "O"}, new int[]{10, 1}, new int[]{1, 1}));
+    }
+
+    @Test
+    public void customSystem() throws ValueOutOfBoundsException {
+        NumeralConverter converter = NumeralConverter.of(new Simple(new String[]{"F", "O"}, new int[]{5, 1}, new int[]{2, 4}));
+        assertEquals(14, converter.maxValue());
+        assertEquals("FFOOOO", converter.toNumeral(14));
+        assertEquals(7, converter.valueOf("FOO", 0, 3));
+    }
+
+    private static final class Simple implements NumeralSystem {
+
+        private final String[] symbols;
+        private final int[] weights;
+        private final int[] repetitions;
+
+        Simple(String[] symbols, int[] weights, int[] repetitions) {
+            this.symbols = symbols;
+            this.weights = weights;
+            this.repetitions = repetitions;
+        }
+
+        @Override
+        public String displayName() {
+            return "Test";
+        }
+
+        @Override
+        public int symbolCount() {
+            return symbols.length;
+        }
+
+        @Override
+        public String symbol(int index) {
+            return symbols[index];
+        }
+
+        @Override
+        public int weight(int index) {
+            return weights[index];
+        }
+
+        @Override
+        public int maxRepetitions(int index) {
+            return repetitions[index];
+        }
+
+        @Override
+        public boolean excludes(int before, int times, int after) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+package converter.tests;
+
+import converter.ElbonianBatchConverter;
+import converter.ElbonianFileConverter;
+import converter.ElbonianParallelConverter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ElbonianParallelConverter class. Every result is compared with the sequential converters.
+ */
+public class ParallelConverterTests {
+
+    private ForkJoinPool pool;
+    private ElbonianParallelConverter converter;
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        pool = new ForkJoinPool(4);
+        converter = new ElbonianParallelConverter(pool, 100, 50);
+        directory = Files.createTempDirectory("elbonian");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void arraysMatchBatchConverter() {
+        int[] values = new Random(3733).ints(5000, -10, 10010).toArray();
+        char[] expected = new char[ElbonianBatchConverter.maxLength(values.length)];
+        int[] expectedOffsets = new int[values.length + 1];
+        BitSet expectedErrors = new BitSet();
+        int expectedFailed = ElbonianBatchConverter.toElbonian(values, 0, values.length, expected, expectedOffsets, expectedErrors);
+
+        char[] text = new char[ElbonianBatchConverter.maxLength(values.length)];
+        int[] offsets = new int[values.length + 1];
+        BitSet errors = new BitSet();
+        errors.set(values.length - 1);
+        assertEquals(expectedFailed, converter.toElbonian(values, text, offsets, errors));
+        assertArrayEquals(expectedOffsets, offsets);
+        assertEquals(new String(expected, 0, expectedOffsets[values.length]), new String(text, 0, offsets[values.length]));
+        assertEquals(expectedErrors, errors);
+
+        int[] back = new int[values.length];
+        int[] expectedBack = new int[values.length];
+        String packed = new String(text, 0, offsets[values.length]);
+        assertEquals(ElbonianBatchConverter.toArabic(packed, offsets, values.length, expectedBack, expectedErrors),
+                converter.toArabic(packed, offsets, values.length, back, errors));
+        assertArrayEquals(expectedBack, back);
+        assertEquals(expectedErrors, errors);
+    }
+
+    @Test
+    public void smallThresholds() {
+        //Thresholds up to 64 become 64, so these arrays leave slices of 65 to 127 elements to split
+        for (int threshold : new int[]{1, 64}) {
+            ElbonianParallelConverter small = new ElbonianParallelConverter(pool, threshold, 50);
+            for (int size : new int[]{100, 127, 200, 1000}) {
+                int[] values = new Random(size).ints(size, -10, 10010).toArray();
+                char[] expected = new char[ElbonianBatchConverter.maxLength(size)];
+                int[] expectedOffsets = new int[size + 1];
+                BitSet expectedErrors = new BitSet();
+                int expectedFailed = ElbonianBatchConverter.toElbonian(values, 0, size, expected, expectedOffsets, expectedErrors);
+
+                char[] text = new char[ElbonianBatchConverter.maxLength(size)];
+                int[] offsets = new int[size + 1];
+                BitSet errors = new BitSet();
+                assertEquals(expectedFailed, small.toElbonian(values, text, offsets, errors));
+                assertArrayEquals(expectedOffsets, offsets);
+                assertEquals(expectedErrors, errors);
+            }
+        }
+    }
+
+    @Test
+    public void filesMatchFileConverter() throws IOException {
+        StringBuilder text = new StringBuilder();
+        Random random = new Random(3733);
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(10100);
+            text.append(i % 3 == 0 ? Integer.toString(value) : value % 7 == 0 ? "NNNM" : " " + value).append('\n');
+        }
+        Path input = directory.resolve("input.txt");
+        Files.write(input, text.toString().getBytes(StandardCharsets.US_ASCII));
+
+        long expectedFailed = new ElbonianFileConverter().convert(input, directory.resolve("expected.txt"),
+                directory.resolve("expected-errors.txt"));
+        assertTrue(expectedFailed > 0);
+        assertEquals(expectedFailed, converter.convert(input, directory.resolve("output.txt"),
+                directory.resolve("errors.txt")));
+        assertArrayEquals(Files.readAllBytes(directory.resolve("expected.txt")),
+                Files.readAllBytes(directory.resolve("output.txt")));
+        assertArrayEquals(Files.readAllBytes(directory.resolve("expected-errors.txt")),
+                Files.readAllBytes(directory.resolve("errors.txt")));
+
+        //A second call reuses the buffers and converters of the first
+        assertEquals(expectedFailed, converter.convert(input, directory.resolve("again.txt"),
+                directory.resolve("again-errors.txt")));
+        assertArrayEquals(Files.readAllBytes(directory.resolve("expected.txt")),
+                Files.readAllBytes(directory.resolve("again.txt")));
+    }
+
+    @Test
+    public void largeChunksSpanSeveralBuffers() throws IOException {
+        //Each chunk converts to several times the size of one output buffer
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            text.append(i % 9999 + 1).append('\n');
+        }
+        Path input = directory.resolve("input.txt");
+        Files.write(input, text.toString().getBytes(StandardCharsets.US_ASCII));
+
+        new ElbonianFileConverter().convert(input, directory.resolve("expected.txt"), directory.resolve("expected-errors.txt"));
+        assertEquals(0, new ElbonianParallelConverter(pool, 100, 200000).convert(input, directory.resolve("output.txt"),
+                directory.resolve("errors.txt")));
+        assertArrayEquals(Files.readAllBytes(directory.resolve("expected.txt")),
+                Files.readAllBytes(directory.resolve("output.txt")));
+    }
+}
@@ -0,0 +1,85 @@
+package converter.tests;
+
+import converter.ElbonianNumber;
+import converter.ElbonianParseCache;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for the ElbonianParseCache class.
+ */
+public class ParseCacheTests {
+
+    @Test
+    public void hitsAndMisses() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianParseCache cache = new ElbonianParseCache(100);
+        assertSame(ElbonianNumber.valueOf(99), cache.parse(" 99 "));
+        assertSame(ElbonianNumber.valueOf(99), cache.parse(" 99 "));
+        assertSame(ElbonianNumber.valueOf(99), cache.parse("YYYJJJ"));
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void failuresAreCached() throws ValueOutOfBoundsException {
+        ElbonianParseCache cache = new ElbonianParseCache(100);
+        for (int i = 0; i < 3; i++) {
+            try {
+                cache.parse("nnn");
+                fail("lower case is not Elbonian");
+            } catch (MalformedNumberException e) {
+                assertEquals("Unexpected character 'n' at index 0. Elbonian numbers may only contain the symbols NMDCYXJI.",
+                        e.getMessage());
+            }
+            //Only the first call parses; every later one is answered from the cache
+            assertEquals(i, cache.hits());
+            assertEquals(1, cache.misses());
+        }
+    }
+
+    @Test
+    public void outOfBoundsIsCached() throws MalformedNumberException {
+        ElbonianParseCache cache = new ElbonianParseCache(100);
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.parse("10000");
+                fail("10000 is out of bounds");
+            } catch (ValueOutOfBoundsException e) {
+                assertEquals("Numbers larger than 9999 cannot be represented in the Elbonian number system.",
+                        e.getMessage());
+            }
+            assertEquals(i, cache.hits());
+            assertEquals(1, cache.misses());
+        }
+    }
+
+    @Test
+    public void boundedSize() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianParseCache cache = new ElbonianParseCache(64);
+        for (int i = 1; i <= 1000; i++) {
+            cache.parse(Integer.toString(i));
+        }
+        assertTrue(cache.size() <= 64);
+        assertEquals(1000 - cache.size(), cache.evictions());
+    }
+
+    @Test
+    public void referencedEntriesSurvive() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianParseCache cache = new ElbonianParseCache(16);
+        cache.parse("1");
+        for (int i = 2; i <= 200; i++) {
+            cache.parse("1");
+            cache.parse(Integer.toString(i));
+        }
+        long hits = cache.hits();
+        cache.parse("1");
+        assertEquals(hits + 1, cache.hits());
+    }
+}
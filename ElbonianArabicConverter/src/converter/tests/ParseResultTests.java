@@ -0,0 +1,123 @@
+package converter.tests;
+
+import converter.ElbonianNumber;
+import converter.ParseResult;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for ElbonianNumber.tryParse() and ParseResult.
+ */
+public class ParseResultTests {
+
+    @Test
+    public void validNumbers() {
+        long result = ElbonianNumber.tryParse(" NDDYY ");
+        assertTrue(ParseResult.isSuccess(result));
+        assertEquals(3660, ParseResult.value(result));
+        assertEquals(0, ParseResult.error(result));
+        assertEquals(-1, ParseResult.index(result));
+        assertNull(ParseResult.message(result, " NDDYY "));
+        assertEquals(9999, ParseResult.value(ElbonianNumber.tryParse("9999")));
+    }
+
+    @Test
+    public void errorCodes() {
+        assertError(ParseResult.NO_NUMBER, 0, "   ");
+        assertError(ParseResult.MISSING_DIGIT, 1, " - ");
+        assertError(ParseResult.LEADING_ZERO, 0, "012");
+        assertError(ParseResult.NOT_A_DIGIT, 2, "99 9");
+        assertError(ParseResult.NOT_A_SYMBOL, 1, "Nk");
+        assertError(ParseResult.WRONG_ORDER, 1, "MN");
+        assertError(ParseResult.TOO_MANY_REPEATS, 2, "III");
+        assertError(ParseResult.INVALID_COMBINATION, 3, "NNNM");
+        assertError(ParseResult.NEGATIVE, 0, "-9");
+        assertError(ParseResult.ZERO, 0, "0");
+        assertError(ParseResult.TOO_LARGE, 0, "10000");
+    }
+
+    @Test
+    public void outOfBounds() {
+        assertTrue(ParseResult.isOutOfBounds(ElbonianNumber.tryParse("-1")));
+        assertTrue(ParseResult.isOutOfBounds(ElbonianNumber.tryParse("123456789012")));
+        assertFalse(ParseResult.isOutOfBounds(ElbonianNumber.tryParse("1M")));
+        assertFalse(ParseResult.isOutOfBounds(ElbonianNumber.tryParse("42")));
+    }
+
+    @Test
+    public void indexesInWholeSequence() {
+        long result = ElbonianNumber.tryParse("xx IIII", 3, 4);
+        assertEquals(ParseResult.TOO_MANY_REPEATS, ParseResult.error(result));
+        assertEquals(5, ParseResult.index(result));
+
+        ByteBuffer buffer = ByteBuffer.wrap("12 NM".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(4000, ParseResult.value(ElbonianNumber.tryParse(buffer, 3, 2)));
+        assertEquals(12, ParseResult.value(ElbonianNumber.tryParse(buffer, 0, 2)));
+    }
+
+    //tryParse() must accept and reject exactly what parse() does, with the same messages
+    @Test
+    public void agreesWithParse() {
+        Random random = new Random(42);
+        String alphabet = "NMDCYXJI0129- x";
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String text = input.toString();
+            long result = ElbonianNumber.tryParse(text);
+            try {
+                int value = ElbonianNumber.parse(text).toArabic();
+                assertEquals(text, value, ParseResult.value(result));
+            } catch (MalformedNumberException e) {
+                assertFalse(text, ParseResult.isSuccess(result) || ParseResult.isOutOfBounds(result));
+                assertEquals(text, e.getMessage(), ParseResult.message(result, text));
+            } catch (ValueOutOfBoundsException e) {
+                assertTrue(text, ParseResult.isOutOfBounds(result));
+                assertEquals(text, e.getMessage(), ParseResult.message(result, text));
+            }
+        }
+    }
+
+    @Test
+    public void exceptionsWithoutStackTrace() {
+        assertEquals(0, new MalformedNumberException("bad", false).getStackTrace().length);
+        assertEquals(0, new ValueOutOfBoundsException("bad", false).getStackTrace().length);
+        assertTrue(new MalformedNumberException("bad", true).getStackTrace().length > 0);
+        assertTrue(new MalformedNumberException("bad").getStackTrace().length > 0);
+    }
+
+    @Test
+    public void constructorStillThrows() {
+        try {
+            ElbonianNumber.parse("IIII");
+            fail("IIII was accepted");
+        } catch (MalformedNumberException e) {
+            assertTrue(e.getStackTrace().length > 0);
+        } catch (ValueOutOfBoundsException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    private static void assertError(int error, int index, String input) {
+        long result = ElbonianNumber.tryParse(input);
+        assertFalse(input, ParseResult.isSuccess(result));
+        assertEquals(input, -1, ParseResult.value(result));
+        assertEquals(input, error, ParseResult.error(result));
+        assertEquals(input, index, ParseResult.index(result));
+    }
+
+}
@@ -0,0 +1,270 @@
+package converter.tests;
+
+import converter.ElbonianNumber;
+import converter.server.BlockingConversionServer;
+import converter.server.ConversionProcessor;
+import converter.server.ConversionResult;
+import converter.server.ConversionServer;
+import converter.server.LoadGenerator;
+import converter.server.NioConversionServer;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for the conversion servers, ConversionProcessor and LoadGenerator. Everything runs on localhost.
+ */
+public class ServerTests {
+
+    private static final InetSocketAddress LOCALHOST = new InetSocketAddress("localhost", 0);
+
+    @Test
+    public void nioProtocol() throws IOException {
+        try (ConversionServer server = new NioConversionServer(LOCALHOST, 2, 32).start()) {
+            checkProtocol(server);
+        }
+    }
+
+    @Test
+    public void blockingProtocol() throws IOException {
+        try (ConversionServer server = new BlockingConversionServer(LOCALHOST, 32).start()) {
+            checkProtocol(server);
+        }
+    }
+
+    @Test
+    public void nioPipelined() throws Exception {
+        try (ConversionServer server = new NioConversionServer(LOCALHOST, 2, 32).start()) {
+            checkPipelined(server);
+        }
+    }
+
+    @Test
+    public void blockingPipelined() throws Exception {
+        try (ConversionServer server = new BlockingConversionServer(LOCALHOST, 32).start()) {
+            checkPipelined(server);
+        }
+    }
+
+    @Test
+    public void nioLastLineAfterFullOutput() throws Exception {
+        try (ConversionServer server = new NioConversionServer(LOCALHOST, 1, 32).start();
+             SocketChannel channel = SocketChannel.open(server.address())) {
+            //Send lines without reading the responses until the server stops reading, which it does once its
+            //output buffer is within one response of full
+            byte[] chunk = "8888\n".repeat(1000).getBytes(StandardCharsets.US_ASCII);
+            AtomicLong chunks = new AtomicLong();
+            CountDownLatch stop = new CountDownLatch(1);
+            Thread writer = new Thread(() -> {
+                try {
+                    while (stop.getCount() > 0) {
+                        ByteBuffer bytes = ByteBuffer.wrap(chunk);
+                        while (bytes.hasRemaining()) {
+                            channel.write(bytes);
+                        }
+                        chunks.incrementAndGet();
+                    }
+                    //Then a last line without a line break, and close our side
+                    channel.write(ByteBuffer.wrap("8888".getBytes(StandardCharsets.US_ASCII)));
+                    channel.shutdownOutput();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            writer.start();
+            long seen = -1;
+            while (chunks.get() != seen && chunks.get() < 10000) {
+                seen = chunks.get();
+                Thread.sleep(200);
+            }
+            stop.countDown();
+
+            channel.socket().setSoTimeout(10000);
+            InputStream in = channel.socket().getInputStream();
+            ByteArrayOutputStream responses = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            try {
+                for (int read; (read = in.read(buffer)) >= 0; ) {
+                    responses.write(buffer, 0, read);
+                }
+            } catch (SocketTimeoutException e) {
+                fail("The server did not answer the last line and close after " + responses.size() + " bytes");
+            }
+            writer.join();
+            String expected = "NNMMDDCCYYXXJJII\n".repeat((int) (chunks.get() * 1000 + 1));
+            assertEquals(expected.length(), responses.size());
+            assertEquals(expected, new String(responses.toByteArray(), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    public void processorDemand() throws InterruptedException {
+        List<String> received = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        SubmissionPublisher<CharSequence> numbers = new SubmissionPublisher<>();
+
+        ConversionProcessor.convert(numbers).subscribe(new Flow.Subscriber<ConversionResult>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ConversionResult result) {
+                received.add(result.response());
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                received.add("failed: " + throwable);
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+        for (String number : new String[]{"3660", "NDDYY", "NNNN", "10000"}) {
+            numbers.submit(number);
+        }
+        numbers.close();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals("NDDYY", received.get(0));
+        assertEquals("3660", received.get(1));
+        assertTrue(received.get(2).startsWith("ERR "));
+        assertEquals("ERR Numbers larger than 9999 cannot be represented in the Elbonian number system.", received.get(3));
+        assertEquals(4, received.size());
+    }
+
+    @Test
+    public void processorPassesDemandUpstream() {
+        long[] requested = new long[1];
+        List<String> received = new ArrayList<>();
+        Flow.Publisher<CharSequence> numbers = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n; i++) {
+                    requested[0]++;
+                    subscriber.onNext(Long.toString(requested[0]));
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        ConversionProcessor.convert(numbers).subscribe(new Flow.Subscriber<ConversionResult>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(2);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ConversionResult result) {
+                received.add(result.response());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertEquals(3, requested[0]);
+        assertEquals(Arrays.asList("I", "II", "J"), received);
+    }
+
+    @Test
+    public void loadGenerator() throws Exception {
+        try (ConversionServer server = new NioConversionServer(LOCALHOST).start()) {
+            LoadGenerator.Report report = new LoadGenerator(server.address(), 4, 2000).run(500, TimeUnit.MILLISECONDS);
+
+            assertEquals(1000, report.latency().getCount());
+            assertEquals(0, report.errors());
+            assertTrue(report.latency().getP50Nanos() <= report.latency().getP999Nanos());
+        }
+    }
+
+    //Sends a few lines, each kind of answer included, and checks the responses
+    private static void checkProtocol(ConversionServer server) throws IOException {
+        String tooLong = "1234567890123456789012345678901234567890";
+        String responses = exchange(server, "3660\n NDDYY \r\nNNNN\n0\n" + tooLong + "\nI\n9999");
+
+        assertEquals("NDDYY\n3660\nERR Too many 'N' at index 3; at most 3 are allowed in a row.\n"
+                + "ERR Zero cannot be represented in the Elbonian number system.\n"
+                + "ERR Line is longer than 32 bytes.\n1\nNNNDDDYYYJJJ\n", responses);
+    }
+
+    //Sends many lines in one go, which only works if the server keeps reading while it writes
+    private static void checkPipelined(ConversionServer server) throws IOException {
+        StringBuilder request = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            int value = i % 9999 + 1;
+            request.append(value).append('\n');
+            expected.append(ElbonianNumber.valueOf(value).toElbonian()).append('\n');
+        }
+        assertEquals(expected.toString(), exchange(server, request.toString()));
+    }
+
+    //Writes the request from another thread while reading every response, then returns the responses
+    private static String exchange(ConversionServer server, String request) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(server.address())) {
+            Thread writer = new Thread(() -> {
+                try {
+                    ByteBuffer bytes = ByteBuffer.wrap(request.getBytes(StandardCharsets.US_ASCII));
+                    while (bytes.hasRemaining()) {
+                        channel.write(bytes);
+                    }
+                    channel.shutdownOutput();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            writer.start();
+            ByteArrayOutputStream responses = new ByteArrayOutputStream();
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            while (channel.read(buffer) >= 0) {
+                responses.write(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new String(responses.toByteArray(), StandardCharsets.US_ASCII);
+        }
+    }
+
+}
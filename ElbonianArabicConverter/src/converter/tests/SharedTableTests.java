@@ -0,0 +1,87 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.SharedElbonianTable;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for SharedElbonianTable.
+ */
+public class SharedTableTests {
+
+    private Path directory;
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("elbonian");
+        file = directory.resolve("elbonian.tables");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.delete(directory);
+    }
+
+    @Test
+    public void everyValue() throws IOException, ValueOutOfBoundsException {
+        SharedElbonianTable table = SharedElbonianTable.openOrCreate(file);
+        ByteBuffer out = ByteBuffer.allocate(16);
+        for (int value = 1; value <= 9999; value++) {
+            String numeral = ElbonianArabicConverter.toElbonian(value);
+            assertEquals(numeral, table.toElbonian(value));
+            assertEquals(numeral.length(), table.length(value));
+            assertEquals(value, table.toArabic(numeral));
+            out.clear();
+            table.appendTo(value, out).flip();
+            assertEquals(numeral, StandardCharsets.US_ASCII.decode(out).toString());
+            assertEquals(value, table.toArabic(out, 0, out.limit()));
+        }
+        assertEquals(16, table.length(8888));
+    }
+
+    @Test
+    public void rejectsWhatTheConverterRejects() throws IOException {
+        SharedElbonianTable.write(file);
+        SharedElbonianTable table = SharedElbonianTable.open(file);
+        Random random = new Random(22);
+        char[] symbols = "NMDCYXJIA".toCharArray();
+        for (int i = 0; i < 100000; i++) {
+            char[] numeral = new char[1 + random.nextInt(8)];
+            for (int c = 0; c < numeral.length; c++) {
+                numeral[c] = symbols[random.nextInt(symbols.length)];
+            }
+            String text = new String(numeral);
+            int expected;
+            try {
+                expected = ElbonianArabicConverter.toArabic(text);
+            } catch (MalformedNumberException e) {
+                expected = -1;
+            }
+            assertEquals(text, expected, table.toArabic(text));
+        }
+        assertEquals(-1, table.toArabic(""));
+        assertEquals(-1, table.toArabic("IIII"));
+    }
+
+    @Test(expected = IOException.class)
+    public void notATable() throws IOException {
+        Files.write(file, new byte[100]);
+        SharedElbonianTable.open(file);
+    }
+
+}
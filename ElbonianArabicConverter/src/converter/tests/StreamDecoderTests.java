@@ -0,0 +1,113 @@
+package converter.tests;
+
+import converter.ElbonianNumber;
+import converter.ElbonianStreamDecoder;
+import converter.ParseResult;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the ElbonianStreamDecoder class.
+ */
+public class StreamDecoderTests {
+
+    @Test
+    public void valuesAtDelimiters() {
+        Recorder recorder = new Recorder();
+        ElbonianStreamDecoder decoder = new ElbonianStreamDecoder(recorder);
+        decoder.accept("NDDYY\r\n 42 ,NNMMDDCCYYXXJJII\n\n9999");
+        assertEquals("[3660, 42, 8888]", recorder.events.toString());
+        decoder.finish();
+        assertEquals("[3660, 42, 8888, 9999]", recorder.events.toString());
+        assertEquals(34, decoder.position());
+    }
+
+    @Test
+    public void numbersSplitAcrossChunks() {
+        Recorder recorder = new Recorder();
+        ElbonianStreamDecoder decoder = new ElbonianStreamDecoder(recorder);
+        byte[] bytes = "NNMMDD\n12".getBytes(StandardCharsets.US_ASCII);
+        decoder.accept(bytes, 0, 3);
+        decoder.accept(ByteBuffer.wrap(bytes, 3, 5));
+        decoder.accept(bytes, 8, 1);
+        decoder.accept(CharBuffer.wrap("34\n9"));
+        decoder.finish();
+        assertEquals("[8600, 1234, 9]", recorder.events.toString());
+    }
+
+    @Test
+    public void errorsAreReportedWithStreamPositions() {
+        Recorder recorder = new Recorder();
+        ElbonianStreamDecoder decoder = new ElbonianStreamDecoder(recorder);
+        decoder.accept("IIII\n0\nNN N\n07\n12");
+        decoder.finish();
+        assertEquals("[error " + ParseResult.TOO_MANY_REPEATS + " at 2, error " + ParseResult.ZERO + " at 5, error "
+                + ParseResult.NOT_A_SYMBOL + " at 9, error " + ParseResult.LEADING_ZERO + " at 12, 12]",
+                recorder.events.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void symbolDelimiter() {
+        new ElbonianStreamDecoder("I", new Recorder());
+    }
+
+    //Whatever the chunk sizes, every entry must give the same result as tryParse() on the entry alone
+    @Test
+    public void agreesWithTryParse() {
+        Random random = new Random(7);
+        String alphabet = "NMDCYXJI0129- x";
+        for (int round = 0; round < 2000; round++) {
+            StringBuilder stream = new StringBuilder();
+            List<String> expected = new ArrayList<>();
+            for (int entry = 0; entry < 5; entry++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(8);
+                for (int j = 0; j < length; j++) {
+                    input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                String text = input.toString();
+                long result = ElbonianNumber.tryParse(text);
+                if (ParseResult.isSuccess(result)) {
+                    expected.add(String.valueOf(ParseResult.value(result)));
+                } else if (ParseResult.error(result) != ParseResult.NO_NUMBER) {
+                    expected.add("error " + ParseResult.error(result) + " at " + (stream.length() + ParseResult.index(result)));
+                }
+                stream.append(text).append('\n');
+            }
+
+            Recorder recorder = new Recorder();
+            ElbonianStreamDecoder decoder = new ElbonianStreamDecoder(recorder);
+            byte[] bytes = stream.toString().getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < bytes.length; ) {
+                int chunk = Math.min(bytes.length - i, 1 + random.nextInt(4));
+                decoder.accept(bytes, i, chunk);
+                i += chunk;
+            }
+            assertEquals(stream.toString(), expected.toString(), recorder.events.toString());
+        }
+    }
+
+    private static final class Recorder implements ElbonianStreamDecoder.Sink {
+
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void value(int value) {
+            events.add(String.valueOf(value));
+        }
+
+        @Override
+        public void rejected(int error, long position) {
+            events.add("error " + error + " at " + position);
+        }
+    }
+
+}
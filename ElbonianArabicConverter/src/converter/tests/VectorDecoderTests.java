@@ -0,0 +1,114 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianVectorDecoder;
+import converter.exceptions.MalformedNumberException;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ElbonianVectorDecoder class. decode() uses the vector kernel when the tests run with
+ * --add-modules jdk.incubator.vector, and every case is checked against decodeScalar() and toArabic().
+ */
+public class VectorDecoderTests {
+
+    private static final int WIDTH = ElbonianVectorDecoder.RECORD_WIDTH;
+
+    @Test
+    public void everyValue() {
+        int[] values = new int[9999];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i + 1;
+        }
+        byte[] records = ElbonianVectorDecoder.pack(values);
+        int[] out = new int[values.length];
+        BitSet errors = new BitSet();
+
+        assertEquals(0, ElbonianVectorDecoder.decode(records, values.length, out, errors));
+        assertArrayEquals(values, out);
+        assertTrue(errors.isEmpty());
+        assertEquals(0, ElbonianVectorDecoder.decodeScalar(records, values.length, out, errors));
+        assertArrayEquals(values, out);
+    }
+
+    @Test
+    public void invalidRecords() {
+        String[] numerals = {"", "NNNN", "NNNM", "MN", "MMM", "DDDC", "CCC", "YYYX", "JJJI", "III", "IJ",
+                "k", "N M", "I\u00ff", "NNMMDDCCYYXXJJII", "NDDYYNNDDCYXXJ", "I"};
+        byte[] records = new byte[numerals.length * WIDTH];
+        for (int i = 0; i < numerals.length; i++) {
+            byte[] bytes = numerals[i].getBytes(StandardCharsets.ISO_8859_1);
+            System.arraycopy(bytes, 0, records, i * WIDTH, bytes.length);
+        }
+        //Padding followed by a symbol
+        records[(numerals.length - 1) * WIDTH + 5] = 'I';
+
+        checkAgainstConverter(records, numerals.length);
+    }
+
+    @Test
+    public void randomRecords() {
+        Random random = new Random(11);
+        byte[] alphabet = "NMDCYXJI".getBytes(StandardCharsets.US_ASCII);
+        int count = 20000;
+        byte[] records = new byte[count * WIDTH];
+        for (int r = 0; r < count; r++) {
+            //Mostly sorted runs of symbols so that many records are valid, with the odd stray byte
+            int length = random.nextInt(WIDTH + 1);
+            int symbol = 0;
+            for (int i = 0; i < length && symbol < alphabet.length; i++) {
+                symbol += random.nextInt(3) == 0 ? 1 : 0;
+                if (symbol < alphabet.length) {
+                    records[r * WIDTH + i] = alphabet[symbol];
+                }
+            }
+            if (random.nextInt(20) == 0) {
+                records[r * WIDTH + random.nextInt(WIDTH)] = (byte) random.nextInt(256);
+            }
+        }
+
+        checkAgainstConverter(records, count);
+    }
+
+    //Checks decode() and decodeScalar() against toArabic() on the text before the first zero byte
+    private static void checkAgainstConverter(byte[] records, int count) {
+        int[] vector = new int[count];
+        int[] scalar = new int[count];
+        BitSet vectorErrors = new BitSet();
+        BitSet scalarErrors = new BitSet();
+        int failed = ElbonianVectorDecoder.decode(records, count, vector, vectorErrors);
+
+        assertEquals(failed, ElbonianVectorDecoder.decodeScalar(records, count, scalar, scalarErrors));
+        assertArrayEquals(scalar, vector);
+        assertEquals(scalarErrors, vectorErrors);
+        assertEquals(failed, vectorErrors.cardinality());
+        for (int r = 0; r < count; r++) {
+            assertEquals("record " + r, expected(records, r), vector[r]);
+        }
+    }
+
+    private static int expected(byte[] records, int r) {
+        int length = 0;
+        while (length < WIDTH && records[r * WIDTH + length] != 0) {
+            length++;
+        }
+        for (int i = length; i < WIDTH; i++) {
+            if (records[r * WIDTH + i] != 0) {
+                return 0;
+            }
+        }
+        try {
+            return ElbonianArabicConverter.toArabic(new String(records, r * WIDTH, length, StandardCharsets.ISO_8859_1));
+        } catch (MalformedNumberException e) {
+            return 0;
+        }
+    }
+
+}